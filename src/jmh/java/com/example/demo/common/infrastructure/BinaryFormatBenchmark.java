@@ -0,0 +1,102 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.post.controller.response.PostSliceResponse;
+import com.example.demo.post.domain.PostSlice;
+import com.example.demo.post.domain.PostView;
+import com.example.demo.user.domain.UserSummary;
+import com.example.demo.user.domain.UserStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 목록 한 페이지(20 건, GET /api/posts?writerId= 의 응답)를 JSON, CBOR, Smile 로 쓰고 읽는 시간을 잽니다.
+ * 읽기는 호출하는 쪽이 치르는 파싱 비용이므로 readTree 로 잽니다. 각 형식의 본문 크기는 시작할 때 한 번 출력합니다.
+ * ObjectMapper 는 JacksonConfiguration 과 같이 Jackson2ObjectMapperBuilder 에 factory 만 바꿔 만듭니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="BinaryFormatBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BinaryFormatBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private PostSliceResponse page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new JacksonConfiguration().blackbirdModule());
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        UserSummary writer = UserSummary.builder()
+            .id(1L)
+            .email("kok202@naver.com")
+            .nickname("kok202")
+            .status(UserStatus.ACTIVE)
+            .lastLoginAt(1678530673958L)
+            .build();
+        List<PostView> posts = new ArrayList<>(PAGE_SIZE);
+        for (long id = PAGE_SIZE; id > 0; id--) {
+            posts.add(PostView.builder()
+                .id(id)
+                .content("게시물 본문입니다. post body number " + id)
+                .createdAt(1678530673958L + id)
+                .modifiedAt(1678530673958L + id)
+                .version(id % 3)
+                .viewCount(id * 101)
+                .writer(writer)
+                .build());
+        }
+        page = PostSliceResponse.from(PostSlice.builder()
+            .posts(posts)
+            .nextCursor(1L)
+            .build());
+        encoded = objectMapper.writeValueAsBytes(page);
+        System.out.printf("  %s payload: %d bytes%n", format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public JsonNode read() throws IOException {
+        return objectMapper.readTree(encoded);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.post.controller.response.PostResponse;
+import com.example.demo.post.domain.Post;
+import com.example.demo.user.controller.response.MyProfileResponse;
+import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 직렬화 처리량을 비교합니다. ObjectMapper 는 스프링 MVC 와 같은 설정(Jackson2ObjectMapperBuilder)으로 만듭니다.
+ * <ul>
+ *     <li>reflection: 기본 ObjectMapper 의 writeValueAsBytes 입니다. 요청마다 루트 serializer 를 찾고 getter 를 리플렉션으로 부릅니다.</li>
+ *     <li>blackbird: Blackbird 모듈을 등록한 ObjectMapper 의 writeValueAsBytes 입니다.</li>
+ *     <li>blackbirdTypedWriter: 여기에 타입별로 미리 만든 ObjectWriter 를 씁니다. JacksonConfiguration 의 MVC 컨버터와 같습니다.</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="JsonSerializationBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonSerializationBenchmark {
+
+    private final ObjectMapper reflectionObjectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper blackbirdObjectMapper = Jackson2ObjectMapperBuilder.json()
+        .modulesToInstall(new JacksonConfiguration().blackbirdModule())
+        .build();
+    private final ObjectWriter postResponseWriter = blackbirdObjectMapper.writerFor(PostResponse.class);
+    private final ObjectWriter myProfileResponseWriter = blackbirdObjectMapper.writerFor(MyProfileResponse.class);
+
+    private PostResponse postResponse;
+    private MyProfileResponse myProfileResponse;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+            .id(1L)
+            .email("kok202@naver.com")
+            .nickname("kok202")
+            .address("Seoul")
+            .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .status(UserStatus.ACTIVE)
+            .lastLoginAt(1678530673958L)
+            .build();
+        postResponse = PostResponse.from(Post.builder()
+            .id(1L)
+            .content("helloworld")
+            .createdAt(1678530673958L)
+            .modifiedAt(1678530673958L)
+            .version(3L)
+            .viewCount(12345L)
+            .writer(user)
+            .build());
+        myProfileResponse = MyProfileResponse.from(user);
+    }
+
+    @Benchmark
+    public byte[] postResponseReflection() throws JsonProcessingException {
+        return reflectionObjectMapper.writeValueAsBytes(postResponse);
+    }
+
+    @Benchmark
+    public byte[] postResponseBlackbird() throws JsonProcessingException {
+        return blackbirdObjectMapper.writeValueAsBytes(postResponse);
+    }
+
+    @Benchmark
+    public byte[] postResponseBlackbirdTypedWriter() throws JsonProcessingException {
+        return postResponseWriter.writeValueAsBytes(postResponse);
+    }
+
+    @Benchmark
+    public byte[] myProfileResponseReflection() throws JsonProcessingException {
+        return reflectionObjectMapper.writeValueAsBytes(myProfileResponse);
+    }
+
+    @Benchmark
+    public byte[] myProfileResponseBlackbird() throws JsonProcessingException {
+        return blackbirdObjectMapper.writeValueAsBytes(myProfileResponse);
+    }
+
+    @Benchmark
+    public byte[] myProfileResponseBlackbirdTypedWriter() throws JsonProcessingException {
+        return myProfileResponseWriter.writeValueAsBytes(myProfileResponse);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.common.infrastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatencyRecordingFilter 가 요청마다 더하는 비용(nanoTime 두 번과 LatencyRecorder.record)을 잽니다.
+ * filter 는 아무것도 하지 않는 체인을 두고 필터 전체(핸들러 속성 조회, Method 로 한 번 조회, 기록)를 지납니다.
+ * 여러 스레드가 같은 핸들러에 기록해도 1 마이크로초보다 한참 아래여야 합니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="LatencyRecorderBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LatencyRecorderBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private LatencyRecorder latencyRecorder;
+    private LatencyRecordingFilter latencyRecordingFilter;
+    private Method handler;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        latencyRecorder = LatencyRecorder.builder()
+            .windows(6)
+            .build();
+        latencyRecordingFilter = new LatencyRecordingFilter(latencyRecorder);
+        handler = Object.class.getMethod("toString");
+    }
+
+    @Benchmark
+    public long nanoTimeOnly() {
+        long start = System.nanoTime();
+        return System.nanoTime() - start;
+    }
+
+    @Benchmark
+    public void record() {
+        long start = System.nanoTime();
+        // 실제 요청처럼 값이 고르게 퍼지도록 수십 마이크로초에서 수십 밀리초 사이의 값을 더합니다.
+        long elapsed = System.nanoTime() - start + ThreadLocalRandom.current().nextLong(10_000, 50_000_000);
+        latencyRecorder.record(handler, "Object.toString", "GET /", elapsed);
+    }
+
+    @Benchmark
+    public void filter(ControllerRequest controllerRequest) throws ServletException, IOException {
+        latencyRecordingFilter.doFilter(controllerRequest.request, controllerRequest.response, NO_OP_CHAIN);
+    }
+
+    /**
+     * DispatcherServlet 이 핸들러를 찾은 뒤처럼 핸들러와 패턴 속성을 미리 채운 요청입니다. 스레드마다 하나씩 재사용합니다.
+     */
+    @State(Scope.Thread)
+    public static class ControllerRequest {
+
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+
+        @Setup
+        public void setUp() throws NoSuchMethodException {
+            request = new MockHttpServletRequest("GET", "/api/sample/1");
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new SampleController(), SampleController.class.getMethod("getById")));
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/sample/{id}");
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @RestController
+    public static class SampleController {
+
+        public String getById() {
+            return "sample";
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.DemoApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션을 띄워 GET /api/users/{id} 를 200 개의 클라이언트 스레드로 동시에 호출하며
+ * 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)의 처리량과 지연을 비교합니다.
+ * 원격 DB 를 흉내 내도록 커넥션을 얻을 때마다 dbLatencyMs 만큼 기다리고, 1 CPU 환경에 맞춰 Tomcat 스레드를 50 개로 줄입니다.
+ * 가상 스레드 모드를 측정하려면 JDK 21 로 실행해야 합니다.
+ *
+ * <pre>
+ * JAVA_HOME=/path/to/jdk-21 mvn -Pbenchmark test-compile exec:exec -Djmh.args="ThreadModeBenchmark"
+ * </pre>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Threads(200)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class ThreadModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"0", "500"})
+    private long dbLatencyMs;
+
+    private ConfigurableApplicationContext applicationContext;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(DemoApplication.class, SlowDataSourceConfiguration.class);
+        applicationContext = application.run(
+            "--server.port=0",
+            "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+            "--server.tomcat.threads.max=50",
+            "--spring.datasource.url=jdbc:h2:mem:thread_mode;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.hikari.maximum-pool-size=200",
+            "--user.cache.enabled=false",
+            "--user.mail.pool.enabled=false",
+            "--benchmark.db-latency-ms=" + dbLatencyMs,
+            "--logging.level.root=WARN");
+
+        applicationContext.getBean(JdbcTemplate.class).update(
+            "insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+                + "values (1, 'kok202@naver.com', 'kok202', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0)");
+
+        int port = ((ServletWebServerApplicationContext) applicationContext).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/users/1")).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int getUserById() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode());
+        }
+        return response.body().length();
+    }
+
+    @Configuration
+    public static class SlowDataSourceConfiguration {
+
+        @Bean
+        public static BeanPostProcessor slowDataSourcePostProcessor(Environment environment) {
+            long latencyMs = environment.getProperty("benchmark.db-latency-ms", Long.class, 0L);
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || latencyMs <= 0) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            Connection connection = super.getConnection();
+                            try {
+                                Thread.sleep(latencyMs);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return connection;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
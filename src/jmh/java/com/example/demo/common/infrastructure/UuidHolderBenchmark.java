@@ -0,0 +1,71 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.common.service.UuidHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 코드 생성 처리량을 1, 4, 16, 64 스레드에서 SystemUuidHolder(UUID.randomUUID, 공유 SecureRandom)와
+ * BufferedSecureRandomUuidHolder(스트라이프별 DRBG 버퍼, 22 자 Base64)로 비교합니다.
+ * 스트라이프 수는 기본값(CPU 수의 두 배)을 씁니다. 스레드 수보다 CPU 가 적으면 두 구현 모두 CPU 시간을 나눠 쓰므로 차이가 줄어듭니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UuidHolderBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UuidHolderBenchmark {
+
+    @Param({"uuid", "buffered"})
+    private String holder;
+
+    private UuidHolder uuidHolder;
+
+    @Setup
+    public void setUp() {
+        uuidHolder = holder.equals("buffered")
+            ? BufferedSecureRandomUuidHolder.builder().build()
+            : new SystemUuidHolder();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String threads01() {
+        return uuidHolder.random();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String threads04() {
+        return uuidHolder.random();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String threads16() {
+        return uuidHolder.random();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String threads64() {
+        return uuidHolder.random();
+    }
+}
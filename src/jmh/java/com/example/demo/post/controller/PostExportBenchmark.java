@@ -0,0 +1,114 @@
+package com.example.demo.post.controller;
+
+import com.example.demo.DemoApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/posts/export 의 응답 본문을 버리는 스트림에 끝까지 써서 rows 건을 내보내는 시간과 힙 사용량을 잽니다.
+ * 테이블이 힙에 올라가지 않도록 H2 파일 DB 를 쓰고, 힙을 96MB 로 제한한 채 실행합니다.
+ * 매 호출 뒤 old 영역의 최대 사용량을 출력하므로 rows 를 늘려도 이 값이 일정한지 확인합니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostExportBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx96m", "-XX:+UseG1GC"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class PostExportBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private Path directory;
+    private ConfigurableApplicationContext applicationContext;
+    private PostController postController;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("post-export");
+        applicationContext = new SpringApplication(DemoApplication.class).run(
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("posts") + ";LAZY_QUERY_EXECUTION=TRUE",
+            "--user.mail.pool.enabled=false",
+            "--logging.level.root=WARN");
+
+        JdbcTemplate jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+            + "values (1, 'kok202@naver.com', 'kok202', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0)");
+        jdbcTemplate.update("insert into posts (id, content, created_at, modified_at, version, user_id) "
+            + "select x, 'content' || x, x, 0, 0, 1 from system_range(1, " + rows + ")");
+
+        postController = applicationContext.getBean(PostController.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetPeakUsage() {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Invocation)
+    public void printPeakUsage() {
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP && pool.getName().contains("Old"))
+            .forEach(pool -> System.out.printf("  %s peak: %d KB%n", pool.getName(), pool.getPeakUsage().getUsed() / 1024));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        applicationContext.close();
+        try (var paths = Files.walk(directory)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        postController.exportPosts(null, null, null, null).getBody().writeTo(outputStream);
+        return outputStream.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.post.controller.response;
+
+import com.example.demo.post.domain.Post;
+import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostResponse.from 과 Jackson 직렬화 비용과 할당량을 잽니다.
+ * ObjectMapper 는 스프링 MVC 와 같은 설정(Jackson2ObjectMapperBuilder)으로 만듭니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostResponseBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PostResponseBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Post post;
+    private PostResponse postResponse;
+
+    @Setup
+    public void setUp() {
+        User writer = User.builder()
+            .id(1L)
+            .email("kok202@naver.com")
+            .nickname("kok202")
+            .address("Seoul")
+            .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .status(UserStatus.ACTIVE)
+            .lastLoginAt(1678530673958L)
+            .build();
+        post = Post.builder()
+            .id(1L)
+            .content("helloworld")
+            .createdAt(1678530673958L)
+            .modifiedAt(1678530673958L)
+            .writer(writer)
+            .build();
+        postResponse = PostResponse.from(post);
+    }
+
+    @Benchmark
+    public PostResponse from() {
+        return PostResponse.from(post);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postResponse);
+    }
+
+    @Benchmark
+    public byte[] fromAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(PostResponse.from(post));
+    }
+}
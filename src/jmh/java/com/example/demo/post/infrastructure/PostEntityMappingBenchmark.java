@@ -0,0 +1,67 @@
+package com.example.demo.post.infrastructure;
+
+import com.example.demo.post.domain.Post;
+import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostEntity 와 Post 사이의 변환 비용과 할당량을 잽니다. 작성자(UserEntity) 변환까지 함께 포함됩니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostEntityMappingBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PostEntityMappingBenchmark {
+
+    private Post post;
+    private PostEntity postEntity;
+
+    @Setup
+    public void setUp() {
+        User writer = User.builder()
+            .id(1L)
+            .email("kok202@naver.com")
+            .nickname("kok202")
+            .address("Seoul")
+            .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .status(UserStatus.ACTIVE)
+            .lastLoginAt(1678530673958L)
+            .build();
+        post = Post.builder()
+            .id(1L)
+            .content("helloworld")
+            .createdAt(1678530673958L)
+            .modifiedAt(1678530673958L)
+            .writer(writer)
+            .build();
+        postEntity = PostEntity.fromModel(post);
+    }
+
+    @Benchmark
+    public Post toModel() {
+        return postEntity.toModel();
+    }
+
+    @Benchmark
+    public PostEntity fromModel() {
+        return PostEntity.fromModel(post);
+    }
+}
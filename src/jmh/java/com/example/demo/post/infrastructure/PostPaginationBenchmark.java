@@ -0,0 +1,138 @@
+package com.example.demo.post.infrastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 작성자의 게시물 목록을 page 번째 페이지까지 넘겼을 때 OFFSET 방식과 keyset(id &lt; cursor) 방식의 조회 시간을 비교합니다.
+ * 두 방식 모두 idx_posts_user_id_id 인덱스가 있는 상태에서 writer 를 join 해서 읽습니다.
+ * H2 2.1 은 인덱스로 user_id 를 거르지만 id desc 정렬은 따로 수행하므로, 여기서의 차이는 정렬할 행 수의 차이입니다.
+ * 인덱스를 역순으로 읽는 MySQL / PostgreSQL 에서는 keyset 이 페이지 깊이와 무관하게 size 건만 읽습니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostPaginationBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PostPaginationBenchmark {
+
+    private static final int WRITERS = 10;
+    private static final int SIZE = 20;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"0", "100", "4000"})
+    private int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement keysetQuery;
+    private long[] cursors;
+    private int writer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:posts_" + rows + "_" + page, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table users (id bigint primary key, email varchar(255), nickname varchar(255), "
+                + "address varchar(255), certification_code varchar(255), status varchar(255), last_login_at bigint)");
+            statement.execute("insert into users select x, 'user' || x || '@example.com', 'nick' || x, 'Seoul', "
+                + "random_uuid(), 'ACTIVE', 0 from system_range(1, " + WRITERS + ")");
+            statement.execute("create table posts (id bigint primary key, content varchar(255), created_at bigint, "
+                + "modified_at bigint, user_id bigint)");
+            statement.execute("insert into posts select x, 'content' || x, x, 0, mod(x, " + WRITERS + ") + 1 "
+                + "from system_range(1, " + rows + ")");
+            statement.execute("create index idx_posts_user_id_id on posts (user_id, id)");
+        }
+
+        String select = "select p.id, p.content, p.created_at, p.modified_at, u.id, u.email, u.nickname, u.status "
+            + "from posts p join users u on u.id = p.user_id ";
+        offsetQuery = connection.prepareStatement(select
+            + "where p.user_id = ? order by p.id desc offset ? rows fetch first ? rows only");
+        keysetQuery = connection.prepareStatement(select
+            + "where p.user_id = ? and p.id < ? order by p.id desc fetch first ? rows only");
+
+        // 작성자마다 page 번째 페이지를 읽기 직전의 커서(앞 페이지의 마지막 id)를 미리 구해 둡니다.
+        cursors = new long[WRITERS + 1];
+        for (int writerId = 1; writerId <= WRITERS; writerId++) {
+            cursors[writerId] = Long.MAX_VALUE;
+            if (page == 0) {
+                continue;
+            }
+            try (PreparedStatement previous = connection.prepareStatement(
+                "select id from posts where user_id = ? order by id desc offset ? rows fetch first 1 rows only")) {
+                previous.setLong(1, writerId);
+                previous.setLong(2, (long) page * SIZE - 1);
+                try (ResultSet resultSet = previous.executeQuery()) {
+                    resultSet.next();
+                    cursors[writerId] = resultSet.getLong(1);
+                }
+            }
+        }
+    }
+
+    /**
+     * H2 는 같은 파라미터로 다시 실행한 쿼리의 결과를 재사용하므로 호출마다 작성자를 바꿉니다.
+     */
+    private int nextWriter() {
+        writer = writer % WRITERS + 1;
+        return writer;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long offset() throws SQLException {
+        offsetQuery.setLong(1, nextWriter());
+        offsetQuery.setLong(2, (long) page * SIZE);
+        offsetQuery.setInt(3, SIZE + 1);
+        return read(offsetQuery);
+    }
+
+    @Benchmark
+    public long keyset() throws SQLException {
+        int writerId = nextWriter();
+        keysetQuery.setLong(1, writerId);
+        keysetQuery.setLong(2, cursors[writerId]);
+        keysetQuery.setInt(3, SIZE + 1);
+        return read(keysetQuery);
+    }
+
+    private static long read(PreparedStatement query) throws SQLException {
+        long last = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                last = resultSet.getLong(1);
+            }
+        }
+        return last;
+    }
+}
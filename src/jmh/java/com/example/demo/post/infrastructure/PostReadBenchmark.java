@@ -0,0 +1,121 @@
+package com.example.demo.post.infrastructure;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.post.controller.response.PostResponse;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 응답(PostResponse)을 만들 때까지의 비용을 엔티티 경로와 projection 경로로 비교합니다.
+ * <ul>
+ *     <li>entity: PostEntity 와 작성자 UserEntity 를 영속성 컨텍스트에 올린 뒤 Post 로 변환합니다.</li>
+ *     <li>projection: PostWithWriterProjection 으로 필요한 컬럼만 한 번의 join 으로 읽습니다.</li>
+ * </ul>
+ * 각 호출은 읽기 전용 트랜잭션 하나에서 실행됩니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostReadBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostReadBenchmark {
+
+    private static final int WRITERS = 10;
+    private static final int POSTS = 10_000;
+    private static final int SIZE = 20;
+
+    private ConfigurableApplicationContext applicationContext;
+    private PostJpaRepository postJpaRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplication(DemoApplication.class).run(
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=jdbc:h2:mem:post_read;DB_CLOSE_DELAY=-1",
+            "--user.cache.enabled=false",
+            "--user.mail.pool.enabled=false",
+            "--logging.level.root=WARN");
+
+        JdbcTemplate jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+            + "select x, 'user' || x || '@example.com', 'nick' || x, 'Seoul', random_uuid(), 'ACTIVE', 0 "
+            + "from system_range(1, " + WRITERS + ")");
+        jdbcTemplate.update("insert into posts (id, content, created_at, modified_at, user_id) "
+            + "select x, 'content' || x, x, 0, mod(x, " + WRITERS + ") + 1 from system_range(1, " + POSTS + ")");
+
+        postJpaRepository = applicationContext.getBean(PostJpaRepository.class);
+        entityManager = applicationContext.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(applicationContext.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public PostResponse entityById() {
+        long id = ThreadLocalRandom.current().nextLong(1, POSTS + 1L);
+        return transactionTemplate.execute(status ->
+            PostResponse.from(postJpaRepository.findById(id).orElseThrow().toModel()));
+    }
+
+    @Benchmark
+    public PostResponse projectionById() {
+        long id = ThreadLocalRandom.current().nextLong(1, POSTS + 1L);
+        return transactionTemplate.execute(status ->
+            PostResponse.from(postJpaRepository.findWithWriterById(id).orElseThrow().toModel()));
+    }
+
+    @Benchmark
+    public List<PostResponse> entityPage() {
+        long writerId = ThreadLocalRandom.current().nextLong(1, WRITERS + 1L);
+        return transactionTemplate.execute(status -> entityManager
+            .createQuery("select p from PostEntity p join fetch p.writer w where w.id = :writerId order by p.id desc",
+                PostEntity.class)
+            .setParameter("writerId", writerId)
+            .setMaxResults(SIZE)
+            .getResultStream()
+            .map(postEntity -> PostResponse.from(postEntity.toModel()))
+            .toList());
+    }
+
+    @Benchmark
+    public List<PostResponse> projectionPage() {
+        long writerId = ThreadLocalRandom.current().nextLong(1, WRITERS + 1L);
+        return transactionTemplate.execute(status -> postJpaRepository
+            .findWithWriterByWriterId(writerId, PageRequest.of(0, SIZE))
+            .stream()
+            .map(projection -> PostResponse.from(projection.toModel()))
+            .toList());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.post.service;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.post.controller.port.PostService;
+import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostCreate;
+import com.example.demo.post.infrastructure.PostEntity;
+import com.example.demo.post.infrastructure.PostJpaRepository;
+import com.example.demo.user.domain.User;
+import com.example.demo.user.service.port.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 생성의 처리량을 이전 경로와 현재 PostService.create 로 비교합니다.
+ * <ul>
+ *     <li>loadWriter: 작성자를 매번 읽고, 모든 필드를 채운 detached UserEntity 를 연결해 저장합니다.</li>
+ *     <li>writerReference: 작성자를 UserCache 에서 찾고 프록시 참조로 연결해 저장합니다.</li>
+ * </ul>
+ * 반복이 끝날 때마다 Hibernate 통계로 생성 한 건당 실행된 SQL 수를 출력합니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostCreateBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostCreateBenchmark {
+
+    private static final int WRITERS = 100;
+
+    private ConfigurableApplicationContext applicationContext;
+    private PostService postService;
+    private UserRepository userRepository;
+    private PostJpaRepository postJpaRepository;
+    private Statistics statistics;
+    private long created;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplication(DemoApplication.class).run(
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=jdbc:h2:mem:post_create;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.properties.hibernate.generate_statistics=true",
+            "--user.mail.pool.enabled=false",
+            "--logging.level.root=WARN");
+
+        applicationContext.getBean(JdbcTemplate.class).update(
+            "insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+                + "select x, 'user' || x || '@example.com', 'nick' || x, 'Seoul', random_uuid(), 'ACTIVE', 0 "
+                + "from system_range(1, " + WRITERS + ")");
+
+        postService = applicationContext.getBean(PostService.class);
+        userRepository = applicationContext.getBean(UserRepository.class);
+        postJpaRepository = applicationContext.getBean(PostJpaRepository.class);
+        statistics = applicationContext.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        statistics.clear();
+        created = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printStatistics() {
+        System.out.printf("  statements per create: %.2f%n", (double) statistics.getPrepareStatementCount() / created);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Post loadWriter() {
+        User writer = userRepository.getById(nextWriterId());
+        Post post = Post.from(writer, postCreate(writer.getId()), System::currentTimeMillis);
+        created++;
+        return postJpaRepository.save(PostEntity.fromModel(post)).toModel();
+    }
+
+    @Benchmark
+    public Post writerReference() {
+        created++;
+        return postService.create(postCreate(nextWriterId()));
+    }
+
+    private static long nextWriterId() {
+        return ThreadLocalRandom.current().nextLong(1, WRITERS + 1L);
+    }
+
+    private static PostCreate postCreate(long writerId) {
+        return PostCreate.builder()
+            .writerId(writerId)
+            .content("helloworld")
+            .build();
+    }
+}
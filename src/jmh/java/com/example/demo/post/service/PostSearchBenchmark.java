@@ -0,0 +1,102 @@
+package com.example.demo.post.service;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.post.controller.port.PostService;
+import com.example.demo.post.domain.PostSearchSlice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 본문 검색 한 페이지(20 건)를 가져오는 시간을 비교합니다.
+ * <ul>
+ *     <li>like: posts.content LIKE '%word%' 로 전체를 훑습니다.</li>
+ *     <li>lucene: PostService.search 로 인덱스에서 찾고 id 로 게시물을 읽습니다.</li>
+ * </ul>
+ * 인덱스는 데이터를 넣은 뒤 PostSearchIndexRebuilder 로 만들고, 그 시간을 한 번 출력합니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostSearchBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostSearchBenchmark {
+
+    private static final int WORDS = 1000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext applicationContext;
+    private JdbcTemplate jdbcTemplate;
+    private PostService postService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplication(DemoApplication.class).run(
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=jdbc:h2:mem:post_search;DB_CLOSE_DELAY=-1",
+            "--post.search.rebuild-on-startup=false",
+            "--user.mail.pool.enabled=false",
+            "--logging.level.root=WARN");
+
+        jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+            + "values (1, 'kok202@naver.com', 'kok202', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0)");
+        jdbcTemplate.update("insert into posts (id, content, created_at, modified_at, version, user_id) "
+            + "select x, 'post body word' || mod(x, " + WORDS + ") || ' and word' || mod(x * 7, " + WORDS + "), x, 0, 0, 1 "
+            + "from system_range(1, " + rows + ")");
+
+        long startedAt = System.nanoTime();
+        long indexed = applicationContext.getBean(PostSearchIndexRebuilder.class).rebuild();
+        System.out.printf("  rebuilt %d posts in %d ms%n", indexed, (System.nanoTime() - startedAt) / 1_000_000);
+
+        postService = applicationContext.getBean(PostService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> like() {
+        // 같은 인자로 반복하면 H2 가 이전 결과를 재사용하므로 검색어를 바꿔 가며 잽니다.
+        return jdbcTemplate.queryForList(
+            "select p.id, p.content from posts p where p.content like ? order by p.id desc limit " + PAGE_SIZE,
+            "%" + nextWord() + " %");
+    }
+
+    @Benchmark
+    public PostSearchSlice lucene() {
+        return postService.search(nextWord(), null, PAGE_SIZE);
+    }
+
+    private static String nextWord() {
+        return "word" + ThreadLocalRandom.current().nextInt(WORDS);
+    }
+}
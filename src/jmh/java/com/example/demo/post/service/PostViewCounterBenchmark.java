@@ -0,0 +1,83 @@
+package com.example.demo.post.service;
+
+import com.example.demo.DemoApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 같은 게시물 하나를 조회할 때 조회수를 세는 처리량을 비교합니다.
+ * <ul>
+ *     <li>updatePerView: 조회마다 view_count = view_count + 1 을 실행합니다. 같은 행의 잠금에서 줄을 섭니다.</li>
+ *     <li>counter: PostViewCounter.increment 로 LongAdder 에 쌓고, 반영은 스케줄러가 1초마다 합니다.</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PostViewCounterBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostViewCounterBenchmark {
+
+    private static final long HOT_POST_ID = 1L;
+
+    private ConfigurableApplicationContext applicationContext;
+    private JdbcTemplate jdbcTemplate;
+    private PostViewCounter postViewCounter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplication(DemoApplication.class).run(
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=jdbc:h2:mem:post_view_count;DB_CLOSE_DELAY=-1",
+            "--user.mail.pool.enabled=false",
+            "--logging.level.root=WARN");
+
+        jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+            + "values (1, 'kok202@naver.com', 'kok202', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0)");
+        jdbcTemplate.update("insert into posts (id, content, created_at, modified_at, version, view_count, user_id) "
+            + "values (" + HOT_POST_ID + ", 'hot', 0, 0, 0, 0, 1)");
+
+        postViewCounter = applicationContext.getBean(PostViewCounter.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        postViewCounter.flush();
+        System.out.printf("  view_count: %d%n", jdbcTemplate.queryForObject(
+            "select view_count from posts where id = ?", Long.class, HOT_POST_ID));
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int updatePerView() {
+        return jdbcTemplate.update("update posts set view_count = view_count + 1 where id = ?", HOT_POST_ID);
+    }
+
+    @Benchmark
+    public void counter() {
+        postViewCounter.increment(HOT_POST_ID);
+    }
+}
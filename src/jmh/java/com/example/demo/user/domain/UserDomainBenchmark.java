@@ -0,0 +1,81 @@
+package com.example.demo.user.domain;
+
+import com.example.demo.common.service.ClockHolder;
+import com.example.demo.common.service.UuidHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 새 User 를 통째로 복사해 만드는 도메인 메서드(from, login, update, certificate)의 비용과 할당량을 잽니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserDomainBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserDomainBenchmark {
+
+    private final ClockHolder clockHolder = () -> 1678530673958L;
+    private final UuidHolder uuidHolder = () -> "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+
+    private User user;
+    private UserCreate userCreate;
+    private UserUpdate userUpdate;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+            .id(1L)
+            .email("kok202@naver.com")
+            .nickname("kok202")
+            .address("Seoul")
+            .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .status(UserStatus.PENDING)
+            .lastLoginAt(0L)
+            .build();
+        userCreate = UserCreate.builder()
+            .email(" KOK202@naver.com ")
+            .nickname("kok202")
+            .address("Seoul")
+            .build();
+        userUpdate = UserUpdate.builder()
+            .nickname("kok202-n")
+            .address("Pangyo")
+            .build();
+    }
+
+    @Benchmark
+    public User from() {
+        return User.from(userCreate, uuidHolder);
+    }
+
+    @Benchmark
+    public User login() {
+        return user.login(clockHolder);
+    }
+
+    @Benchmark
+    public User update() {
+        return user.update(userUpdate, clockHolder);
+    }
+
+    @Benchmark
+    public User certificate() {
+        return user.certificate("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", clockHolder);
+    }
+}
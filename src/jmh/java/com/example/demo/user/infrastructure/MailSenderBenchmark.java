@@ -0,0 +1,105 @@
+package com.example.demo.user.infrastructure;
+
+import com.example.demo.user.service.port.MailSender;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 JVM 안의 GreenMail SMTP 서버로 인증 메일을 보내며 MailSenderImpl(메일마다 연결)과
+ * PooledMailSender(연결 유지 + 묶음 전송)의 처리량을 비교합니다.
+ * smtps 는 GreenMail 의 자체 서명 인증서로 TLS 핸드셰이크를 매번 하는 경우를 흉내 냅니다.
+ * 호출 스레드 수(4)와 연결 수를 맞춰 연결을 다시 쓰는 효과만 비교합니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="MailSenderBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class MailSenderBenchmark {
+
+    @Param({"simple", "pooled"})
+    private String sender;
+
+    @Param({"smtp", "smtps"})
+    private String protocol;
+
+    private GreenMail greenMail;
+    private MailSender mailSender;
+    private PooledMailSender pooledMailSender;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ServerSetup serverSetup = protocol.equals("smtps") ? ServerSetupTest.SMTPS : ServerSetupTest.SMTP;
+        greenMail = new GreenMail(serverSetup.dynamicPort());
+        greenMail.start();
+
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setProtocol(protocol);
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(protocol.equals("smtps") ? greenMail.getSmtps().getPort() : greenMail.getSmtp().getPort());
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtps.ssl.trust", "*");
+        properties.setProperty("mail.smtps.ssl.checkserveridentity", "false");
+        javaMailSender.setJavaMailProperties(properties);
+
+        if (sender.equals("pooled")) {
+            pooledMailSender = PooledMailSender.builder()
+                .javaMailSender(javaMailSender)
+                .connections(4)
+                .messagesPerConnection(100)
+                .sendTimeout(Duration.ofSeconds(30))
+                .build();
+            mailSender = pooledMailSender;
+        } else {
+            mailSender = new MailSenderImpl(javaMailSender);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void purge() throws Exception {
+        // 받은 메일이 GreenMail 메모리에 계속 쌓이지 않도록 반복마다 비웁니다.
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (pooledMailSender != null) {
+            pooledMailSender.destroy();
+        }
+        greenMail.stop();
+    }
+
+    @Benchmark
+    public void send() {
+        mailSender.send("kok202@naver.com", "Please certify your email address",
+            "Please click the following link to certify your email address: "
+                + "http://localhost:8080/api/users/1/verify?certificationCode=aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    }
+}
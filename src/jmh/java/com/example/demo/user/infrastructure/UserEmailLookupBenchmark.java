@@ -0,0 +1,85 @@
+package com.example.demo.user.infrastructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findByEmailAndStatus 가 실행하는 쿼리를 인덱스가 없는 users 테이블(변경 전)과
+ * uk_users_email / idx_users_email_status 가 있는 테이블(변경 후)에서 비교합니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserEmailLookupBenchmark -p rows=1000000"
+ * </pre>
+ * 10M 행은 H2 메모리 DB 에서 수 GB 의 힙을 사용하므로 -jvmArgsAppend 로 힙을 늘려서 실행합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserEmailLookupBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement findByEmailAndStatus;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:users_" + rows + "_" + indexed, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table users (id bigint primary key, email varchar(255), nickname varchar(255), "
+                + "address varchar(255), certification_code varchar(255), status varchar(255), last_login_at bigint)");
+            statement.execute("insert into users select x, 'user' || x || '@example.com', 'nick' || x, 'Seoul', "
+                + "random_uuid(), case when mod(x, 10) = 0 then 'PENDING' else 'ACTIVE' end, 0 "
+                + "from system_range(1, " + rows + ")");
+            if (indexed) {
+                statement.execute("alter table users add constraint uk_users_email unique (email)");
+                statement.execute("create index idx_users_email_status on users (email, status)");
+            }
+        }
+        findByEmailAndStatus = connection.prepareStatement(
+            "select id, address, certification_code, email, last_login_at, nickname, status from users "
+                + "where email = ? and status = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean findByEmailAndStatus() throws SQLException {
+        long id = ThreadLocalRandom.current().nextLong(1, rows + 1L);
+        findByEmailAndStatus.setString(1, "user" + id + "@example.com");
+        findByEmailAndStatus.setString(2, "ACTIVE");
+        try (ResultSet resultSet = findByEmailAndStatus.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+}
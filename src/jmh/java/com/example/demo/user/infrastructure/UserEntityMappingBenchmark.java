@@ -0,0 +1,59 @@
+package com.example.demo.user.infrastructure;
+
+import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserEntity 와 User 사이의 변환(toModel / fromModel) 비용과 할당량을 잽니다.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserEntityMappingBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserEntityMappingBenchmark {
+
+    private User user;
+    private UserEntity userEntity;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+            .id(1L)
+            .email("kok202@naver.com")
+            .nickname("kok202")
+            .address("Seoul")
+            .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .status(UserStatus.ACTIVE)
+            .lastLoginAt(1678530673958L)
+            .build();
+        userEntity = UserEntity.fromModel(user);
+    }
+
+    @Benchmark
+    public User toModel() {
+        return userEntity.toModel();
+    }
+
+    @Benchmark
+    public UserEntity fromModel() {
+        return UserEntity.fromModel(user);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.demo.user.infrastructure;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10만 건의 users INSERT 를 Hibernate 가 내보내는 JDBC 호출 형태 그대로 비교합니다.
+ * 배치의 효과는 왕복 비용에서 나오므로 같은 JVM 안의 메모리 DB(mem)와 TCP 로 붙는 DB(tcp) 를 함께 측정합니다.
+ * <ul>
+ *     <li>identity: IDENTITY 전략. 행마다 INSERT 를 즉시 실행하고 생성된 키를 읽습니다.</li>
+ *     <li>pooledSequence: allocationSize=50 시퀀스. 50건마다 시퀀스를 한 번 읽고 batch_size=50 으로 묶어 실행합니다.</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserInsertBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UserInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"mem", "tcp"})
+    private String transport;
+
+    private Server server;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        if (transport.equals("tcp")) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            connection = DriverManager.getConnection("jdbc:h2:" + server.getURL() + "/mem:user_insert", "sa", "");
+        } else {
+            connection = DriverManager.getConnection("jdbc:h2:mem:user_insert", "sa", "");
+        }
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table identity_users (id bigint generated by default as identity primary key, "
+                + "email varchar(255), nickname varchar(255), address varchar(255), certification_code varchar(255), "
+                + "status varchar(255), last_login_at bigint)");
+            statement.execute("create table sequence_users (id bigint primary key, "
+                + "email varchar(255), nickname varchar(255), address varchar(255), certification_code varchar(255), "
+                + "status varchar(255), last_login_at bigint)");
+            statement.execute("create sequence users_seq start with 1 increment by " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table identity_users");
+            statement.execute("truncate table sequence_users");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+            "insert into identity_users (address, certification_code, email, last_login_at, nickname, status) "
+                + "values (?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledSequence() throws SQLException {
+        long nextId = 0;
+        long maxId = -1;
+        try (PreparedStatement nextValue = connection.prepareStatement("select next value for users_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                 "insert into sequence_users (address, certification_code, email, last_login_at, nickname, status, id) "
+                     + "values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                if (nextId > maxId) {
+                    try (ResultSet resultSet = nextValue.executeQuery()) {
+                        resultSet.next();
+                        maxId = resultSet.getLong(1) + ALLOCATION_SIZE - 1;
+                        nextId = resultSet.getLong(1);
+                    }
+                }
+                bind(insert, 1, i);
+                insert.setLong(7, nextId++);
+                insert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+
+    private static void bind(PreparedStatement insert, int index, int i) throws SQLException {
+        insert.setString(index, "Seoul");
+        insert.setString(index + 1, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        insert.setString(index + 2, "user" + i + "@example.com");
+        insert.setLong(index + 3, 0L);
+        insert.setString(index + 4, "nick" + i);
+        insert.setString(index + 5, "PENDING");
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.load;
+
+/**
+ * 부하 테스트가 섞어 보내는 요청 종류입니다. key 는 --mix 옵션에서 쓰는 이름입니다.
+ */
+public enum LoadOperation {
+
+    SIGN_UP("signup", "POST /api/users", 201),
+    MY_INFO("me", "GET /api/users/me", 200),
+    CREATE_POST("post", "POST /api/posts", 201),
+    UPDATE_POST("update", "PUT /api/posts/{id}", 200);
+
+    private final String key;
+    private final String endpoint;
+    private final int expectedStatus;
+
+    LoadOperation(String key, String endpoint, int expectedStatus) {
+        this.key = key;
+        this.endpoint = endpoint;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public static LoadOperation fromKey(String key) {
+        for (LoadOperation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + key + " (signup, me, post, update 중 하나)");
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 응답 시간(HdrHistogram)과 실패 수를 모읍니다. 실패는 기대한 상태 코드가 아니면 상태 코드로,
+ * 응답을 받지 못하면 예외 클래스 이름으로 나누어 셉니다. reset 이후에 기록한 값만 보고합니다.
+ */
+public class LoadStatistics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, Map<String, LongAdder>> failures = new EnumMap<>(LoadOperation.class);
+
+    public LoadStatistics(Set<LoadOperation> operations) {
+        for (LoadOperation operation : operations) {
+            recorders.put(operation, new Recorder(SIGNIFICANT_DIGITS));
+            failures.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * @param failure 성공이면 null
+     */
+    public void record(LoadOperation operation, long nanos, String failure) {
+        recorders.get(operation).recordValue(nanos);
+        if (failure != null) {
+            failures.get(operation).computeIfAbsent(failure, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 예열 동안 쌓인 기록을 버립니다.
+     */
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        failures.values().forEach(Map::clear);
+    }
+
+    public void print(Duration elapsed, PrintStream out) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long totalFailures = 0;
+
+        out.printf("%-22s %10s %8s %8s %10s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "error%", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (Map.Entry<LoadOperation, Recorder> entry : recorders.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            long failed = failures.get(entry.getKey()).values().stream().mapToLong(LongAdder::sum).sum();
+            total.add(histogram);
+            totalFailures += failed;
+            printRow(out, entry.getKey().getEndpoint(), histogram, failed, seconds);
+        }
+        printRow(out, "total", total, totalFailures, seconds);
+
+        failures.forEach((operation, byReason) -> byReason.forEach((reason, count) ->
+            out.printf("  %s 실패 %s: %d%n", operation.getEndpoint(), reason, count.sum())));
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long failed, double seconds) {
+        long count = histogram.getTotalCount();
+        out.printf("%-22s %10d %8d %7.2f%% %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            name,
+            count,
+            failed,
+            count == 0 ? 0.0 : failed * 100.0 / count,
+            count / seconds,
+            millis(histogram.getValueAtPercentile(50)),
+            millis(histogram.getValueAtPercentile(90)),
+            millis(histogram.getValueAtPercentile(99)),
+            millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
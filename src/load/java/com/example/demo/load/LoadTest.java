@@ -0,0 +1,219 @@
+package com.example.demo.load;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.mock.FakeMailSender;
+import com.example.demo.user.service.port.MailSender;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 같은 JVM 에 애플리케이션을 메모리 H2 와 가짜 MailSender 로 띄우고, 여러 클라이언트가 --mix 비율대로
+ * 회원 가입, 내 정보 조회, 게시물 작성, 게시물 수정을 쉬지 않고 보내며 처리량, 응답 시간 백분위, 오류율을 출력합니다.
+ * 클라이언트는 JDK 21 이상이면 가상 스레드, 아니면 클라이언트마다 플랫폼 스레드 하나로 돌리며, 어느 쪽이었는지 결과 머리말에 남깁니다.
+ * 측정을 위해 요청마다 일을 더하는 기능(SQL 문 수 헤더, Hibernate 통계, 응답 시간 필터)은 끄고 띄웁니다.
+ * 응답을 받아야 다음 요청을 보내므로(닫힌 부하) 서버가 느려지면 보내는 요청도 줄어듭니다. 변경 전후를 같은 옵션으로 비교하는 용도입니다.
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec -Dload.args="--clients=200 --duration=60s --mix=signup=1,me=6,post=2,update=1"
+ * </pre>
+ * 애플리케이션 설정도 같은 방식으로 바꿀 수 있습니다. 예) -Dload.args="--spring.threads.virtual.enabled=true --user.cache.enabled=false"
+ */
+public class LoadTest {
+
+    private final LoadTestOptions options;
+    private final LoadStatistics statistics;
+    private final AtomicLong signUpSequence = new AtomicLong();
+    /**
+     * 수정에 성공한 게시물의 다음 버전입니다. 없으면 시드한 버전 0 입니다.
+     */
+    private final Map<Long, Long> postVersions = new ConcurrentHashMap<>();
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String clientThreads;
+
+    public LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.statistics = new LoadStatistics(options.getMix().keySet());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        new LoadTest(LoadTestOptions.parse(args)).run();
+    }
+
+    public void run() throws InterruptedException {
+        List<String> applicationArgs = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:load_test;DB_CLOSE_DELAY=-1",
+            "--spring.h2.console.enabled=false",
+            "--user.mail.pool.enabled=false",
+            "--query-count.enabled=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--latency.enabled=false",
+            "--logging.level.root=WARN"));
+        applicationArgs.addAll(options.getApplicationArgs());
+
+        SpringApplication application = new SpringApplication(DemoApplication.class, FakeMailSenderConfiguration.class);
+        try (ConfigurableApplicationContext applicationContext = application.run(applicationArgs.toArray(String[]::new))) {
+            seed(applicationContext.getBean(JdbcTemplate.class));
+            baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) applicationContext).getWebServer().getPort();
+            httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+            drive();
+        }
+    }
+
+    /**
+     * 내 정보 조회와 게시물 수정이 쓸 활성 사용자(id 1..users)와 게시물(id 1..posts)을 넣고,
+     * API 로 만드는 행과 id 가 겹치지 않도록 시퀀스를 그 뒤로 옮깁니다.
+     */
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+            + "select x, 'load' || x || '@example.com', 'load' || x, 'Seoul', random_uuid(), 'ACTIVE', 0 "
+            + "from system_range(1, ?)", options.getUsers());
+        jdbcTemplate.update("insert into posts (id, content, created_at, modified_at, version, view_count, user_id) "
+            + "select x, 'load test post ' || x, x, 0, 0, 0, mod(x, ?) + 1 from system_range(1, ?)",
+            options.getUsers(), options.getPosts());
+        jdbcTemplate.execute("alter sequence users_seq restart with " + (options.getUsers() + 100));
+        jdbcTemplate.execute("alter sequence posts_seq restart with " + (options.getPosts() + 100));
+    }
+
+    private void drive() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + options.getWarmup().toNanos();
+        long deadline = measureFrom + options.getDuration().toNanos();
+
+        ExecutorService clients = clientExecutor();
+        for (int i = 0; i < options.getClients(); i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    send(options.nextOperation(ThreadLocalRandom.current()));
+                }
+            });
+        }
+
+        TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+        statistics.reset();
+        long measuredAt = System.nanoTime();
+        clients.shutdown();
+        clients.awaitTermination(options.getDuration().toSeconds() + 60, TimeUnit.SECONDS);
+
+        System.out.printf("%nclients=%d warmup=%s duration=%s mix=%s%n",
+            options.getClients(), options.getWarmup(), options.getDuration(), options.getMix());
+        System.out.printf("클라이언트: %s%n", clientThreads);
+        statistics.print(Duration.ofNanos(System.nanoTime() - measuredAt), System.out);
+    }
+
+    private void send(LoadOperation operation) {
+        HttpRequest request = request(operation);
+        long start = System.nanoTime();
+        String failure;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            failure = response.statusCode() == operation.getExpectedStatus() ? null : String.valueOf(response.statusCode());
+            if (failure == null && operation == LoadOperation.UPDATE_POST) {
+                updated(request);
+            }
+        } catch (IOException e) {
+            failure = e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        statistics.record(operation, System.nanoTime() - start, failure);
+    }
+
+    private HttpRequest request(LoadOperation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = random.nextLong(1, options.getUsers() + 1L);
+        return switch (operation) {
+            case SIGN_UP -> {
+                long sequence = signUpSequence.incrementAndGet();
+                yield json("/api/users").POST(body(
+                    "{\"email\":\"signup%d@example.com\",\"nickname\":\"signup%d\",\"address\":\"Seoul\"}", sequence, sequence)).build();
+            }
+            case MY_INFO -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/me"))
+                .header("EMAIL", "load" + userId + "@example.com")
+                .GET()
+                .build();
+            case CREATE_POST -> json("/api/posts").POST(body(
+                "{\"writerId\":%d,\"content\":\"load test post by %d\"}", userId, userId)).build();
+            case UPDATE_POST -> {
+                long postId = random.nextLong(1, options.getPosts() + 1L);
+                // 마지막으로 알려진 버전을 If-Match 로 보냅니다. 같은 게시물을 동시에 수정하면 한쪽은 409 로 셉니다.
+                yield json("/api/posts/" + postId)
+                    .header("If-Match", "\"" + postVersions.getOrDefault(postId, 0L) + "\"")
+                    .PUT(body("{\"content\":\"load test update %d\"}", random.nextLong()))
+                    .build();
+            }
+        };
+    }
+
+    private void updated(HttpRequest request) {
+        String path = request.uri().getPath();
+        long postId = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        long version = Long.parseLong(request.headers().firstValue("If-Match").orElseThrow().replace("\"", ""));
+        postVersions.merge(postId, version + 1, Math::max);
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher body(String format, Object... args) {
+        return HttpRequest.BodyPublishers.ofString(String.format(format, args));
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() 를 찾지 못하면(JDK 21 미만) 클라이언트 수만큼 플랫폼 스레드를 씁니다.
+     * 이때는 같은 JVM 의 클라이언트 스레드가 서버 스레드와 CPU 를 나눠 쓰므로, 클라이언트가 많을수록 서버 처리량을 낮게 잽니다.
+     */
+    private ExecutorService clientExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            clientThreads = "가상 스레드";
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            clientThreads = String.format("플랫폼 스레드 %d 개 (가상 스레드는 JDK 21 이상, 현재 %s). "
+                    + "클라이언트가 서버와 CPU 를 나눠 쓰므로 같은 JDK, 같은 --clients 로 돌린 결과끼리만 비교하세요.",
+                options.getClients(), Runtime.version());
+            return Executors.newFixedThreadPool(options.getClients());
+        }
+    }
+
+    @Configuration
+    public static class FakeMailSenderConfiguration {
+
+        /**
+         * 인증 메일은 보내지 않고 버립니다. 애플리케이션의 MailSender 대신 주입됩니다.
+         */
+        @Bean
+        @Primary
+        public MailSender fakeMailSender() {
+            return new FakeMailSender();
+        }
+    }
+}
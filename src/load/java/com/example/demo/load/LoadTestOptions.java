@@ -0,0 +1,100 @@
+package com.example.demo.load;
+
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * LoadTest 의 명령행 옵션입니다. 아래 이름 외의 --key=value 는 그대로 애플리케이션에 넘깁니다.
+ * <ul>
+ *     <li>--clients: 동시에 요청을 보내는 클라이언트 수 (기본 200)</li>
+ *     <li>--warmup, --duration: 버리는 예열 시간과 측정 시간 (기본 10s, 30s)</li>
+ *     <li>--mix: 요청 종류별 비율 (기본 signup=1,me=6,post=2,update=1)</li>
+ *     <li>--users, --posts: 미리 넣어 두는 활성 사용자와 게시물 수 (기본 1000, 10000)</li>
+ * </ul>
+ */
+@Getter
+public class LoadTestOptions {
+
+    private int clients = 200;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(30);
+    private Map<LoadOperation, Integer> mix = parseMix("signup=1,me=6,post=2,update=1");
+    private int users = 1000;
+    private int posts = 10000;
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    private LoadOperation[] operations;
+    private int[] cumulativeWeights;
+
+    public static LoadTestOptions parse(String... args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = arg.startsWith("--") && separator > 0 ? arg.substring(2, separator) : "";
+            String value = separator > 0 ? arg.substring(separator + 1) : "";
+            switch (key) {
+                case "clients" -> options.clients = positive(key, Integer.parseInt(value));
+                case "warmup" -> options.warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> options.duration = DurationStyle.detectAndParse(value);
+                case "mix" -> options.mix = parseMix(value);
+                case "users" -> options.users = positive(key, Integer.parseInt(value));
+                case "posts" -> options.posts = positive(key, Integer.parseInt(value));
+                default -> options.applicationArgs.add(arg);
+            }
+        }
+        options.prepareMix();
+        return options;
+    }
+
+    /**
+     * mix 의 비율대로 요청 종류 하나를 고릅니다.
+     */
+    public LoadOperation nextOperation(ThreadLocalRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void prepareMix() {
+        operations = mix.keySet().toArray(LoadOperation[]::new);
+        cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String value) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            int weight = pair.length == 2 ? Integer.parseInt(pair[1].trim()) : 1;
+            if (weight > 0) {
+                mix.put(LoadOperation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix 에 비율이 0 보다 큰 요청이 하나는 있어야 합니다: " + value);
+        }
+        return mix;
+    }
+
+    private static int positive(String key, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + key + " 는 0 보다 커야 합니다: " + value);
+        }
+        return value;
+    }
+}
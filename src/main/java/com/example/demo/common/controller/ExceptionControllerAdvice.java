@@ -1,10 +1,18 @@
 package com.example.demo.common.controller;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.PRECONDITION_REQUIRED;
 
 import com.example.demo.common.domain.exception.CertificationCodeNotMatchedException;
+import com.example.demo.common.domain.exception.InvalidCursorException;
+import com.example.demo.common.domain.exception.PreconditionFailedException;
 import com.example.demo.common.domain.exception.ResourceNotFoundException;
+import com.example.demo.common.domain.exception.VersionConflictException;
+import com.example.demo.common.domain.exception.VersionRequiredException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -32,4 +40,32 @@ public class ExceptionControllerAdvice {
         return exception.getMessage();
     }
 
+    @ResponseBody
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(VersionConflictException.class)
+    public String versionConflictException(VersionConflictException exception) {
+        return exception.getMessage();
+    }
+
+    @ResponseBody
+    @ResponseStatus(PRECONDITION_REQUIRED)
+    @ExceptionHandler(VersionRequiredException.class)
+    public String versionRequiredException(VersionRequiredException exception) {
+        return exception.getMessage();
+    }
+
+    @ResponseBody
+    @ResponseStatus(PRECONDITION_FAILED)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public String preconditionFailedException(PreconditionFailedException exception) {
+        return exception.getMessage();
+    }
+
+    @ResponseBody
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public String invalidCursorException(InvalidCursorException exception) {
+        return exception.getMessage();
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.example.demo.common.controller;
+
+import com.example.demo.common.domain.EndpointLatency;
+import com.example.demo.common.infrastructure.LatencyRecorder;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "응답 시간")
+@RestController
+@RequiredArgsConstructor
+public class LatencyReportController {
+
+    private final LatencyRecorder latencyRecorder;
+
+    /**
+     * 핸들러 메서드별 최근 latency.windows 개 구간의 응답 시간 백분위(마이크로초)입니다.
+     */
+    @GetMapping("/internal/latency")
+    public ResponseEntity<List<EndpointLatency>> getLatency() {
+        return ResponseEntity
+            .ok()
+            .body(latencyRecorder.snapshot());
+    }
+}
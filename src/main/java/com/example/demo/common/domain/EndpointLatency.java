@@ -0,0 +1,33 @@
+package com.example.demo.common.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 핸들러 메서드 하나의 최근 구간 응답 시간 분포입니다. 시간 값은 모두 마이크로초입니다.
+ */
+@Getter
+public class EndpointLatency {
+    private final String handler;
+    private final String pattern;
+    private final long count;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+    private final long p9999;
+    private final long max;
+
+    @Builder
+    public EndpointLatency(String handler, String pattern, long count, long p50, long p90, long p99, long p999, long p9999, long max) {
+        this.handler = handler;
+        this.pattern = pattern;
+        this.count = count;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.p9999 = p9999;
+        this.max = max;
+    }
+}
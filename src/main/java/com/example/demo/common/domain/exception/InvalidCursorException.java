@@ -0,0 +1,8 @@
+package com.example.demo.common.domain.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("잘못된 커서입니다: " + cursor + " (앞 페이지 응답의 nextCursor 를 그대로 넘겨 주세요)");
+    }
+}
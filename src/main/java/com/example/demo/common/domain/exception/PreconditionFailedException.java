@@ -0,0 +1,8 @@
+package com.example.demo.common.domain.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String ifMatch) {
+        super("If-Match(" + ifMatch + ")는 강한 비교로 버전을 읽을 수 있는 ETag 여야 합니다. 조회 때 받은 약한 ETag 대신 본문의 version 을 보내세요.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.common.domain.exception;
+
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(String datasource, long id, Long expectedVersion) {
+        super(datasource + "에서 ID " + id + "의 버전 " + expectedVersion + "이(가) 최신이 아닙니다.");
+    }
+}
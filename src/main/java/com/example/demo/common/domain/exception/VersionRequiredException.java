@@ -0,0 +1,8 @@
+package com.example.demo.common.domain.exception;
+
+public class VersionRequiredException extends RuntimeException {
+
+    public VersionRequiredException(String datasource, long id) {
+        super(datasource + "에서 ID " + id + "을(를) 수정하려면 기준 버전(본문의 version 또는 If-Match)이 필요합니다.");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.common.service.UuidHolder;
+import lombok.Builder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UUID.randomUUID() 처럼 128 비트 난수로 인증 코드를 만들되, 모든 스레드가 하나의 SecureRandom 을 나눠 쓰지 않도록
+ * 스트라이프마다 따로 시드된 DRBG 와 codesPerRefill 개 분량의 버퍼를 둡니다. 스레드는 스레드 id 로 스트라이프를 고르고,
+ * 버퍼를 다 쓴 스트라이프만 한 번에 다시 채웁니다. 가상 스레드가 많아도 DRBG 수는 스트라이프 수를 넘지 않습니다.
+ * 코드는 36 자 UUID 문자열 대신 URL 에 그대로 넣을 수 있는 22 자 Base64(URL-safe, 패딩 없음)입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "uuid.buffered.enabled", havingValue = "true")
+public class BufferedSecureRandomUuidHolder implements UuidHolder {
+
+    private static final int CODE_BYTES = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripes 0 이하이면 CPU 수의 두 배입니다. 2 의 거듭제곱으로 올립니다.
+     * @param codesPerRefill 0 이하이면 64 입니다.
+     */
+    @Builder
+    public BufferedSecureRandomUuidHolder(
+        @Value("${uuid.buffered.stripes:0}") int stripes,
+        @Value("${uuid.buffered.codes-per-refill:64}") int codesPerRefill) {
+        int count = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * 2;
+        count = Integer.highestOneBit(count - 1) << 1;
+        int bufferSize = (codesPerRefill > 0 ? codesPerRefill : 64) * CODE_BYTES;
+        this.stripes = new Stripe[Math.max(count, 1)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(bufferSize);
+        }
+        this.mask = this.stripes.length - 1;
+    }
+
+    @Override
+    public String random() {
+        byte[] code = new byte[CODE_BYTES];
+        stripes[stripeIndex()].next(code);
+        return ENCODER.encodeToString(code);
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SecureRandom secureRandom = drbg();
+        private final byte[] buffer;
+        private int position;
+
+        private Stripe(int bufferSize) {
+            this.buffer = new byte[bufferSize];
+            this.position = bufferSize;
+        }
+
+        private void next(byte[] code) {
+            lock.lock();
+            try {
+                if (position == buffer.length) {
+                    secureRandom.nextBytes(buffer);
+                    position = 0;
+                }
+                System.arraycopy(buffer, position, code, 0, code.length);
+                position += code.length;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * NativePRNG 는 인스턴스를 여러 개 만들어도 /dev/urandom 을 읽는 상태 하나를 함께 잠그므로,
+         * 인스턴스마다 상태를 따로 갖는 DRBG 를 씁니다. 시드는 인스턴스를 만들 때 운영체제 엔트로피에서 가져옵니다.
+         */
+        private static SecureRandom drbg() {
+            try {
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("DRBG SecureRandom 을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+}
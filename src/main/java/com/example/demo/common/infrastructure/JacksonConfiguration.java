@@ -0,0 +1,105 @@
+package com.example.demo.common.infrastructure;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 응답 DTO 의 JSON 직렬화 설정입니다.
+ * json.blackbird.enabled 가 true 이면 Blackbird 모듈이 getter 를 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 호출합니다.
+ * MVC 컨버터는 응답 타입마다 루트 serializer 를 미리 찾아 둔 ObjectWriter 를 한 번 만들어 재사용합니다.
+ * 내부 서비스 간 호출을 위해 같은 컨트롤러가 CBOR 와 Smile 도 읽고 씁니다. Accept 가 없거나 모든 타입을 받으면 JSON 입니다.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "json.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Accept / Content-Type 이 application/cbor 인 요청을 읽고 씁니다.
+     * JSON 과 같은 모듈과 설정(스프링 부트의 Jackson2ObjectMapperBuilder)을 쓰고, 스프링 MVC 가 기본으로 넣는 CBOR 컨버터 자리를 대신합니다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * application/x-jackson-smile 용입니다. CBOR 와 같은 방식으로 등록합니다.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * 스프링 부트가 등록하는 기본 컨버터를 대신합니다.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TypedWriterHttpMessageConverter(objectMapper);
+    }
+
+    static class TypedWriterHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        TypedWriterHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        /**
+         * 컨테이너가 아닌 응답은 선언 타입 대신 실제 클래스로 writer 를 고릅니다.
+         * 선언 타입으로 고정하면 하위 타입에만 있는 필드가 빠지므로, 상위 클래스가 컨테이너 타입에만 forType 을 쓰는 것과 맞춥니다.
+         */
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+            Object value = object instanceof MappingJacksonValue mappingJacksonValue ? mappingJacksonValue.getValue() : object;
+            if (value != null && (type == null || !getJavaType(type, null).isContainerType())) {
+                type = value.getClass();
+            }
+            super.writeInternal(object, type, outputMessage);
+        }
+
+        /**
+         * view 나 filter 가 붙지 않은 기본 writer 일 때만 타입별 writer 로 바꿉니다.
+         * 기본 writer 는 ObjectMapper 의 SerializationConfig 를 그대로 공유하므로 참조 비교로 가립니다.
+         * javaType 은 writeInternal 이 넘긴 실제 클래스이거나 컨테이너 타입입니다.
+         * SSE 는 상위 클래스가 pretty printer 를 따로 붙이므로 그대로 둡니다.
+         */
+        @Override
+        protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+            ObjectMapper objectMapper = getObjectMapper();
+            if (javaType == null
+                || writer.getConfig() != objectMapper.getSerializationConfig()
+                || (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM))) {
+                return writer;
+            }
+            return writers.computeIfAbsent(javaType, objectMapper::writerFor);
+        }
+    }
+}
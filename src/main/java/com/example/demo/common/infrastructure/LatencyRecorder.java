@@ -0,0 +1,130 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.common.domain.EndpointLatency;
+import lombok.Builder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 핸들러 메서드마다 HdrHistogram Recorder 를 두고 응답 시간을 기록합니다.
+ * recordValue 는 wait-free 라 요청 스레드끼리 잠금을 다투지 않습니다.
+ * interval-ms 마다 구간 히스토그램을 떼어 내어 최근 windows 개만 남기고, 보고할 때는 그 구간들을 합칩니다.
+ */
+@Component
+public class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    /**
+     * 기록하지 않기로 한 handler 자리입니다. ConcurrentHashMap 은 null 을 담지 못하므로 이것으로 판단을 캐시합니다.
+     */
+    private static final Endpoint IGNORED = new Endpoint(null, null);
+
+    private final int windows;
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Builder
+    public LatencyRecorder(@Value("${latency.windows:6}") int windows) {
+        this.windows = Math.max(windows, 1);
+    }
+
+    /**
+     * 같은 handler 는 처음 기록할 때의 name, pattern 으로 보고됩니다.
+     */
+    public void record(Method handler, String name, String pattern, long nanos) {
+        record(handler, nanos, null, (method, context) -> new EndpointName(name, pattern));
+    }
+
+    /**
+     * handler 를 처음 기록할 때만 naming 으로 보고할 이름과 패턴을 정하고, 이후 요청은 조회 한 번으로 기록합니다.
+     * naming 이 null 을 돌려준 handler 는 그 판단을 캐시해 두고 다시 묻지 않고 기록하지 않습니다.
+     * context 는 naming 에 그대로 넘기므로 호출하는 쪽은 캡처하지 않는 메서드 참조를 넘길 수 있습니다.
+     */
+    public <T> void record(Method handler, long nanos, T context, BiFunction<Method, T, EndpointName> naming) {
+        Endpoint endpoint = endpoints.get(handler);
+        if (endpoint == null) {
+            endpoint = endpoints.computeIfAbsent(handler, key -> {
+                EndpointName name = naming.apply(key, context);
+                return name == null ? IGNORED : new Endpoint(name.handler(), name.pattern());
+            });
+        }
+        if (endpoint != IGNORED) {
+            endpoint.recorder.recordValue(nanos);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${latency.interval-ms:10000}")
+    public void rotate() {
+        endpoints.values().stream()
+            .filter(endpoint -> endpoint != IGNORED)
+            .forEach(endpoint -> endpoint.rotate(windows));
+    }
+
+    /**
+     * 마지막 rotate 까지의 구간을 handler 이름 순으로 돌려줍니다. 아직 떼어 내지 않은 현재 구간은 들어가지 않습니다.
+     */
+    public List<EndpointLatency> snapshot() {
+        return endpoints.values().stream()
+            .filter(endpoint -> endpoint != IGNORED)
+            .map(Endpoint::snapshot)
+            .sorted(Comparator.comparing(EndpointLatency::getHandler))
+            .toList();
+    }
+
+    /**
+     * 보고에 쓰는 핸들러 이름(Bean.method)과 매핑 패턴(HTTP 메서드 + 경로 패턴)입니다.
+     */
+    public record EndpointName(String handler, String pattern) {
+    }
+
+    private static class Endpoint {
+
+        private final String name;
+        private final String pattern;
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Deque<Histogram> intervals = new ArrayDeque<>();
+
+        private Endpoint(String name, String pattern) {
+            this.name = name;
+            this.pattern = pattern;
+        }
+
+        private synchronized void rotate(int windows) {
+            // 가장 오래된 구간을 돌려 주어 새 구간 히스토그램을 만들지 않고 재사용합니다.
+            Histogram recycled = intervals.size() >= windows ? intervals.removeFirst() : null;
+            intervals.addLast(recorder.getIntervalHistogram(recycled));
+        }
+
+        private synchronized EndpointLatency snapshot() {
+            Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+            intervals.forEach(merged::add);
+            return EndpointLatency.builder()
+                .handler(name)
+                .pattern(pattern)
+                .count(merged.getTotalCount())
+                .p50(micros(merged.getValueAtPercentile(50)))
+                .p90(micros(merged.getValueAtPercentile(90)))
+                .p99(micros(merged.getValueAtPercentile(99)))
+                .p999(micros(merged.getValueAtPercentile(99.9)))
+                .p9999(micros(merged.getValueAtPercentile(99.99)))
+                .max(micros(merged.getMaxValue()))
+                .build();
+        }
+
+        private static long micros(long nanos) {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.common.infrastructure;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+/**
+ * 다른 필터까지 포함한 요청 처리 시간을 재어, 요청을 받은 컨트롤러 핸들러 메서드별로 LatencyRecorder 에 남깁니다.
+ * 핸들러를 찾지 못했거나 컨트롤러가 아닌 핸들러(정적 리소스, actuator)가 받은 요청은 남기지 않습니다.
+ * 비동기로 넘어간 요청(내보내기)은 응답이 끝났을 때 처음부터 잰 시간을 남깁니다.
+ * latency.enabled=false 이면 등록하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "latency.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class LatencyRecordingFilter extends OncePerRequestFilter {
+
+    private final LatencyRecorder latencyRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnComplete(request, start));
+            } else {
+                record(request, start);
+            }
+        }
+    }
+
+    /**
+     * 요청마다 하는 일은 핸들러 속성을 꺼내 Method 로 한 번 조회하는 것뿐입니다.
+     * 컨트롤러인지 확인하고 이름과 패턴을 만드는 일은 핸들러 메서드마다 처음 한 번만 합니다.
+     */
+    private void record(HttpServletRequest request, long start) {
+        long elapsed = System.nanoTime() - start;
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            latencyRecorder.record(handler.getMethod(), elapsed, request, LatencyRecordingFilter::endpointName);
+        }
+    }
+
+    private static LatencyRecorder.EndpointName endpointName(Method method, HttpServletRequest request) {
+        HandlerMethod handler = (HandlerMethod) request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!AnnotatedElementUtils.hasAnnotation(handler.getBeanType(), Controller.class)) {
+            return null;
+        }
+        return new LatencyRecorder.EndpointName(
+            handler.getBeanType().getSimpleName() + "." + method.getName(),
+            request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+    }
+
+    @RequiredArgsConstructor
+    private class RecordOnComplete implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final long start;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.post.controller.port.PostService;
+import com.example.demo.post.service.port.PostRepository;
+import com.example.demo.user.controller.port.UserService;
+import com.example.demo.user.service.port.MailSender;
+import com.example.demo.user.service.port.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스와 저장소, 메일 포트의 모든 메서드 호출을 port.calls 타이머로 잽니다.
+ * 태그는 port(인터페이스 이름), operation(메서드 이름), outcome(success 또는 던진 예외의 클래스 이름)입니다.
+ * 같은 객체 안에서 부르는 메서드는 프록시를 거치지 않으므로 따로 잡히지 않습니다.
+ */
+@Aspect
+@Component
+public class PortMetricsAspect {
+
+    static final String METRIC_NAME = "port.calls";
+    static final String SUCCESS = "success";
+
+    private static final List<Class<?>> PORTS = List.of(
+        UserService.class, PostService.class, UserRepository.class, PostRepository.class, MailSender.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public PortMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.example.demo.user.controller.port.UserService.*(..))"
+        + " || execution(* com.example.demo.post.controller.port.PostService.*(..))"
+        + " || execution(* com.example.demo.user.service.port.UserRepository.*(..))"
+        + " || execution(* com.example.demo.post.service.port.PostRepository.*(..))"
+        + " || execution(* com.example.demo.user.service.port.MailSender.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timer(joinPoint, outcome));
+        }
+    }
+
+    /**
+     * 타이머는 메서드와 outcome 마다 처음 한 번만 태그를 붙여 등록하고, 이후 호출은 맵에서 꺼내 씁니다.
+     */
+    private Timer timer(ProceedingJoinPoint joinPoint, String outcome) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(outcome, key -> Timer.builder(METRIC_NAME)
+                .description("포트 메서드 호출 시간")
+                .tag("port", portName(joinPoint.getTarget().getClass()))
+                .tag("operation", method.getName())
+                .tag("outcome", key)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 구현 클래스 이름 대신 구현한 포트 인터페이스 이름을 씁니다. 가짜 구현으로 바꿔도 같은 태그로 모입니다.
+     */
+    private static String portName(Class<?> targetClass) {
+        return PORTS.stream()
+            .filter(port -> port.isAssignableFrom(targetClass))
+            .map(Class::getSimpleName)
+            .findFirst()
+            .orElse(targetClass.getSimpleName());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.common.infrastructure;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 하나가 실행한 SQL 문 수를 X-Query-Count 응답 헤더로 알려 줍니다. query-count.enabled=true 일 때만 켜집니다.
+ * Hibernate 를 거치지 않는 JdbcTemplate 쿼리까지 세도록 DataSource 를 datasource-proxy 로 감쌉니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "query-count.enabled", havingValue = "true")
+public class QueryCountConfiguration {
+
+    /**
+     * 설정 값이 바인딩된 뒤의 DataSource 를 감쌉니다. 실행한 문 수는 실행한 스레드에 쌓입니다.
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .countQuery()
+                    .build();
+            }
+        };
+    }
+
+    @Bean
+    public QueryCountFilter queryCountFilter() {
+        return new QueryCountFilter();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.common.infrastructure;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 요청 스레드에서 실행한 SQL 문 수를 X-Query-Count 헤더로 내려 줍니다.
+ * 헤더는 응답이 커밋되기 전에만 쓸 수 있으므로 본문을 쓰기 시작할 때(컨트롤러가 끝난 뒤) 센 값을 씁니다.
+ * 비동기로 넘어간 뒤 다른 스레드에서 실행한 쿼리(내보내기)는 세지 않습니다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        QueryCountHolder.clear();
+        QueryCountingResponse countingResponse = new QueryCountingResponse(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            countingResponse.writeQueryCount();
+            QueryCountHolder.clear();
+        }
+    }
+
+    private static class QueryCountingResponse extends HttpServletResponseWrapper {
+
+        private final Thread requestThread = Thread.currentThread();
+
+        private QueryCountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeQueryCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeQueryCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeQueryCount();
+            super.flushBuffer();
+        }
+
+        private void writeQueryCount() {
+            if (Thread.currentThread() != requestThread || isCommitted()) {
+                return;
+            }
+            setHeader(HEADER, String.valueOf(QueryCountHolder.getGrandTotal().getTotal()));
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.demo.common.infrastructure;
 
 import com.example.demo.common.service.UuidHolder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
 
 @Component
+@ConditionalOnProperty(name = "uuid.buffered.enabled", havingValue = "false", matchIfMissing = true)
 public class SystemUuidHolder implements UuidHolder {
     @Override
     public String random() {
@@ -0,0 +1,54 @@
+package com.example.demo.common.infrastructure;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 애플리케이션 비동기 작업을 요청마다 새 가상 스레드에서 실행합니다.
+ * 서비스의 @Transactional 호출은 요청 스레드에서 그대로 실행되므로 JDBC/SMTP 대기 중에도 플랫폼 스레드를 붙잡지 않습니다.
+ * 이때 동시에 DB 를 쓰는 요청 수는 Tomcat 스레드 수가 아니라 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size)가 정합니다.
+ *
+ * 빌드는 Java 17 기준을 유지하므로 가상 스레드 API 는 리플렉션으로 찾고, JDK 21 미만에서 켜면 기동 시점에 실패합니다.
+ * 속성 이름은 Spring Boot 3.2 의 같은 기능과 맞춰 두어 업그레이드 후에도 그대로 쓸 수 있습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ThreadFactory threadFactory = virtualThreadFactory("tomcat-handler-");
+        return protocolHandler -> protocolHandler.setExecutor(new SimpleAsyncTaskExecutor(threadFactory));
+    }
+
+    @Bean(name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new SimpleAsyncTaskExecutor(virtualThreadFactory("task-"));
+    }
+
+    /**
+     * Thread.ofVirtual().name(prefix, 0).factory() 와 같습니다.
+     */
+    static ThreadFactory virtualThreadFactory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Method name = builderType.getMethod("name", String.class, long.class);
+            Method factory = builderType.getMethod("factory");
+            return (ThreadFactory) factory.invoke(name.invoke(builder, prefix, 0L));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드는 JDK 21 이상에서만 사용할 수 있습니다. 현재 JDK: " + Runtime.version(), e);
+        }
+    }
+}
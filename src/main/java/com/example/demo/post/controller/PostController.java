@@ -1,19 +1,39 @@
 package com.example.demo.post.controller;
 
+import com.example.demo.common.domain.exception.PreconditionFailedException;
 import com.example.demo.post.controller.port.PostService;
 import com.example.demo.user.controller.UserController;
 import com.example.demo.post.controller.response.PostResponse;
+import com.example.demo.post.controller.response.PostSearchResponse;
+import com.example.demo.post.controller.response.PostSliceResponse;
+import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostExportCondition;
 import com.example.demo.post.domain.PostUpdate;
+import com.example.demo.post.domain.PostValidator;
+import com.example.demo.post.domain.PostView;
+import com.example.demo.user.controller.response.UserResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @Tag(name = "게시물(posts)")
 @RestController
@@ -23,19 +43,152 @@ import org.springframework.web.bind.annotation.RestController;
 public class PostController {
 
     private final PostService postService;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * If-None-Match / If-Modified-Since 가 있을 때만 본문 없이 버전과 수정 시각을 먼저 읽어 확인합니다.
+     * 바뀌지 않았다면 게시물을 읽거나 PostResponse 를 직렬화하지 않고 304 로 끝내고, 조건이 없는 조회는 게시물만 한 번 읽습니다.
+     * 304 도 조회수는 셉니다. 클라이언트가 캐시한 본문을 다시 보여 주는 것이므로 한 번의 조회이며, 빼면 캐시를 쓰는 클라이언트의 조회만 빠집니다.
+     * 304 응답에는 조회수가 실리지 않으므로 캐시한 본문의 viewCount 는 다음 200 응답 전까지 예전 값입니다.
+     * ETag 는 JSON, CBOR, Smile 표현이 함께 쓰는 약한 ETag 이고, 캐시가 표현을 섞지 않도록 Vary: Accept 를 붙입니다.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPostById(@PathVariable long id) {
+    public ResponseEntity<PostResponse> getPostById(@PathVariable long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            PostValidator validator = postService.getValidatorById(id);
+            if (webRequest.checkNotModified(eTag(validator), validator.getLastModifiedAt())) {
+                postService.countView(id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+            }
+        }
+        PostView post = postService.view(id);
+        // 조건 헤더가 없거나 맞지 않았으므로 304 가 아니라 ETag / Last-Modified 만 채웁니다.
+        PostValidator validator = PostValidator.from(post);
+        webRequest.checkNotModified(eTag(validator), validator.getLastModifiedAt());
+        return ResponseEntity
+            .ok()
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(PostResponse.from(post));
+    }
+
+    @GetMapping
+    public ResponseEntity<PostSliceResponse> getPostsByWriterId(
+        @RequestParam long writerId,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity
+            .ok()
+            .body(PostSliceResponse.from(postService.getByWriterId(writerId, cursor, size)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponse> searchPosts(
+        @RequestParam("q") String query,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity
+            .ok()
+            .body(PostSearchResponse.from(postService.search(query, cursor, size)));
+    }
+
+    /**
+     * 조건에 맞는 게시물을 한 줄에 하나씩 JSON 으로 내려줍니다(NDJSON). 행을 읽는 대로 써 내려가므로 건수가 많아도 힙을 더 쓰지 않습니다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+        @RequestParam(required = false) Long createdAtFrom,
+        @RequestParam(required = false) Long createdAtTo,
+        @RequestParam(required = false) Long modifiedAtFrom,
+        @RequestParam(required = false) Long modifiedAtTo) {
+        PostExportCondition condition = PostExportCondition.builder()
+            .createdAtFrom(createdAtFrom)
+            .createdAtTo(createdAtTo)
+            .modifiedAtFrom(modifiedAtFrom)
+            .modifiedAtTo(modifiedAtTo)
+            .build();
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // 줄바꿈은 writeLine 이 직접 쓰므로 루트 값 사이의 기본 구분자(공백)를 뺍니다.
+                generator.setRootValueSeparator(null);
+                postService.export(condition, post -> writeLine(generator, post));
+            }
+        };
         return ResponseEntity
             .ok()
-            .body(PostResponse.from(postService.getById(id)));
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
     }
 
+    /**
+     * 기준 버전은 본문의 version 으로 보내거나, 본문에 없으면 "{version}" 꼴의 강한 ETag 를 If-Match 로 보냅니다.
+     * If-Match 는 강한 비교를 하므로(RFC 9110) 조회 때 받은 약한(W/) ETag 나 버전을 읽을 수 없는 값은 412 입니다.
+     * 둘 다 없을 때는 post.update.version-required 가 켜져 있으면 428 이고, 꺼져 있으면 지금 버전을 기준으로 덮어씁니다.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<PostResponse> updatePost(@PathVariable long id, @RequestBody PostUpdate postUpdate) {
+    public ResponseEntity<PostResponse> updatePost(
+        @PathVariable long id,
+        @RequestBody PostUpdate postUpdate,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (postUpdate.getVersion() == null && ifMatch != null && !ifMatch.trim().equals("*")) {
+            postUpdate = PostUpdate.builder()
+                .content(postUpdate.getContent())
+                .version(versionOf(ifMatch))
+                .build();
+        }
         return ResponseEntity
             .ok()
             .body(PostResponse.from(postService.update(id, postUpdate)));
     }
 
-}
\ No newline at end of file
+    /**
+     * 강한 ETag "{version}" 또는 "{version}-{작성자 해시}" 에서 버전만 꺼냅니다. 약한 ETag 는 강한 비교에서 어떤 값과도 맞지 않습니다.
+     */
+    private static long versionOf(String ifMatch) {
+        String value = ifMatch.trim();
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new PreconditionFailedException(ifMatch);
+        }
+        value = value.substring(1, value.length() - 1);
+        int separator = value.indexOf('-');
+        try {
+            return Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(ifMatch);
+        }
+    }
+
+    /**
+     * 조회수는 조회할 때마다 바뀌므로 넣지 않고, 그래서 본문 바이트가 달라도 같은 값이 되므로 약한(W/) ETag 로 내려줍니다.
+     * 304 를 받은 클라이언트는 갖고 있던 조회수를 그대로 보여 줍니다.
+     */
+    private static String eTag(PostValidator validator) {
+        return "W/\"" + validator.getVersion() + "-" + UserResponse.contentHash(validator.getWriter()) + "\"";
+    }
+
+    private static void writeLine(JsonGenerator generator, Post post) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", post.getId());
+            generator.writeStringField("content", post.getContent());
+            writeNullableNumber(generator, "createdAt", post.getCreatedAt());
+            writeNullableNumber(generator, "modifiedAt", post.getModifiedAt());
+            writeNullableNumber(generator, "writerId", post.getWriter().getId());
+            writeNullableNumber(generator, "version", post.getVersion());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullableNumber(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+}
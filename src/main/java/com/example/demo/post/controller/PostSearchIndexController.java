@@ -0,0 +1,40 @@
+package com.example.demo.post.controller;
+
+import com.example.demo.post.controller.response.PostSearchIndexRebuildResponse;
+import com.example.demo.post.service.PostSearchIndexRebuilder;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 인증 없이 전체 재색인을 일으키므로 post.search.rebuild-endpoint.enabled=true 일 때만 등록합니다.
+ * 내부망이나 관리용 포트처럼 외부에서 닿지 않는 곳에서만 켜 주세요.
+ */
+@Tag(name = "게시물 검색 인덱스")
+@RestController
+@ConditionalOnProperty(name = "post.search.rebuild-endpoint.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Builder
+public class PostSearchIndexController {
+
+    private final PostSearchIndexRebuilder postSearchIndexRebuilder;
+
+    /**
+     * 기동 때와 같은 방법으로 posts 전체를 다시 색인하고 끝날 때까지 기다립니다. 이미 다시 만드는 중이면 그 뒤에 이어서 실행합니다.
+     */
+    @PostMapping("/internal/search/rebuild")
+    public ResponseEntity<PostSearchIndexRebuildResponse> rebuild() {
+        long startedAt = System.nanoTime();
+        long indexed = postSearchIndexRebuilder.rebuild();
+        return ResponseEntity
+            .ok()
+            .body(PostSearchIndexRebuildResponse.builder()
+                .indexed(indexed)
+                .elapsedMillis((System.nanoTime() - startedAt) / 1_000_000)
+                .build());
+    }
+}
@@ -2,10 +2,23 @@ package com.example.demo.post.controller.port;
 
 import com.example.demo.post.domain.Post;
 import com.example.demo.post.domain.PostCreate;
+import com.example.demo.post.domain.PostExportCondition;
+import com.example.demo.post.domain.PostSearchSlice;
+import com.example.demo.post.domain.PostSlice;
 import com.example.demo.post.domain.PostUpdate;
+import com.example.demo.post.domain.PostValidator;
+import com.example.demo.post.domain.PostView;
+
+import java.util.function.Consumer;
 
 public interface PostService {
-    Post getById(long id);
+    PostView getById(long id);
+    PostView view(long id);
+    PostValidator getValidatorById(long id);
+    void countView(long id);
+    PostSlice getByWriterId(long writerId, Long cursor, int size);
     Post create(PostCreate postCreate);
-    Post update(long id, PostUpdate postUpdate);
+    PostView update(long id, PostUpdate postUpdate);
+    void export(PostExportCondition condition, Consumer<Post> consumer);
+    PostSearchSlice search(String query, String cursor, int size);
 }
@@ -1,6 +1,7 @@
 package com.example.demo.post.controller.response;
 
 import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostView;
 import com.example.demo.user.controller.response.UserResponse;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,14 +16,22 @@ public class PostResponse {
     private Long createdAt;
     private Long modifiedAt;
     private UserResponse writer;
+    private Long version;
+    private Long viewCount;
 
     public static PostResponse from(Post post) {
+        return from(PostView.from(post));
+    }
+
+    public static PostResponse from(PostView post) {
         return PostResponse.builder()
                 .id(post.getId())
                 .content(post.getContent())
                 .createdAt(post.getCreatedAt())
                 .modifiedAt(post.getModifiedAt())
                 .writer(UserResponse.from(post.getWriter()))
+                .version(post.getVersion())
+                .viewCount(post.getViewCount())
                 .build();
     }
 }
@@ -0,0 +1,12 @@
+package com.example.demo.post.controller.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostSearchIndexRebuildResponse {
+
+    private long indexed;
+    private long elapsedMillis;
+}
@@ -0,0 +1,22 @@
+package com.example.demo.post.controller.response;
+
+import com.example.demo.post.domain.PostSearchSlice;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostSearchResponse {
+
+    private List<PostResponse> posts;
+    private String nextCursor;
+
+    public static PostSearchResponse from(PostSearchSlice postSearchSlice) {
+        return PostSearchResponse.builder()
+                .posts(postSearchSlice.getPosts().stream().map(PostResponse::from).toList())
+                .nextCursor(postSearchSlice.getNextCursor())
+                .build();
+    }
+}
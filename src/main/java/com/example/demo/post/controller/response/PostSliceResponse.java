@@ -0,0 +1,22 @@
+package com.example.demo.post.controller.response;
+
+import com.example.demo.post.domain.PostSlice;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostSliceResponse {
+
+    private List<PostResponse> posts;
+    private Long nextCursor;
+
+    public static PostSliceResponse from(PostSlice postSlice) {
+        return PostSliceResponse.builder()
+                .posts(postSlice.getPosts().stream().map(PostResponse::from).toList())
+                .nextCursor(postSlice.getNextCursor())
+                .build();
+    }
+}
@@ -14,14 +14,18 @@ public class Post {
     private final Long createdAt;
     private final Long modifiedAt;
     private final User writer;
+    private final Long version;
+    private final Long viewCount;
 
     @Builder
-    public Post(Long id, String content, Long createdAt, Long modifiedAt, User writer) {
+    public Post(Long id, String content, Long createdAt, Long modifiedAt, User writer, Long version, Long viewCount) {
         this.id = id;
         this.content = content;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
         this.writer = writer;
+        this.version = version;
+        this.viewCount = viewCount;
     }
 
     public static Post from(User writer, PostCreate postCreate, ClockHolder clockHolder) {
@@ -29,6 +33,7 @@ public class Post {
                 .content(postCreate.getContent())
                 .writer(writer)
                 .createdAt(clockHolder.millis())
+                .viewCount(0L)
                 .build();
     }
 
@@ -39,6 +44,23 @@ public class Post {
                 .createdAt(createdAt)
                 .modifiedAt(clockHolder.millis())
                 .writer(writer)
+                .version(version)
+                .viewCount(viewCount)
+                .build();
+    }
+
+    /**
+     * 아직 저장소에 반영되지 않은 조회수 views 를 더한 게시물을 돌려줍니다.
+     */
+    public Post addViews(long views) {
+        return Post.builder()
+                .id(id)
+                .content(content)
+                .createdAt(createdAt)
+                .modifiedAt(modifiedAt)
+                .writer(writer)
+                .version(version)
+                .viewCount((viewCount == null ? 0 : viewCount) + views)
                 .build();
     }
 }
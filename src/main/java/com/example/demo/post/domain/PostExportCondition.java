@@ -0,0 +1,35 @@
+package com.example.demo.post.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시물 내보내기의 범위 조건입니다. from 은 포함, to 는 제외하며 비어 있는 값은 조건에서 빠집니다.
+ */
+@Getter
+public class PostExportCondition {
+    private final Long createdAtFrom;
+    private final Long createdAtTo;
+    private final Long modifiedAtFrom;
+    private final Long modifiedAtTo;
+
+    @Builder
+    public PostExportCondition(Long createdAtFrom, Long createdAtTo, Long modifiedAtFrom, Long modifiedAtTo) {
+        this.createdAtFrom = createdAtFrom;
+        this.createdAtTo = createdAtTo;
+        this.modifiedAtFrom = modifiedAtFrom;
+        this.modifiedAtTo = modifiedAtTo;
+    }
+
+    public boolean matches(Post post) {
+        return within(post.getCreatedAt(), createdAtFrom, createdAtTo)
+            && within(post.getModifiedAt(), modifiedAtFrom, modifiedAtTo);
+    }
+
+    private static boolean within(Long value, Long from, Long to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        return value != null && (from == null || value >= from) && (to == null || value < to);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.post.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스가 돌려준 한 페이지의 게시물 id 입니다. 관련도 순서를 유지하며, 다음 페이지가 없으면 nextCursor 는 null 입니다.
+ */
+@Getter
+public class PostSearchHits {
+    private final List<Long> postIds;
+    private final String nextCursor;
+
+    @Builder
+    public PostSearchHits(List<Long> postIds, String nextCursor) {
+        this.postIds = postIds;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.post.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 관련도 순 검색 결과의 한 페이지입니다. 다음 페이지가 없으면 nextCursor 는 null 입니다.
+ */
+@Getter
+public class PostSearchSlice {
+    private final List<PostView> posts;
+    private final String nextCursor;
+
+    @Builder
+    public PostSearchSlice(List<PostView> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
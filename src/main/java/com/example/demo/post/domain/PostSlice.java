@@ -0,0 +1,25 @@
+package com.example.demo.post.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 조회의 한 페이지입니다. 다음 페이지가 없으면 nextCursor 는 null 입니다.
+ */
+@Getter
+public class PostSlice {
+    private final List<PostView> posts;
+    private final Long nextCursor;
+
+    @Builder
+    public PostSlice(List<PostView> posts, Long nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -9,9 +9,16 @@ public class PostUpdate {
 
     private final String content;
 
+    /**
+     * 수정의 기준이 된 게시물 버전입니다. 반드시 있어야 하며, 현재 버전과 다르면 수정하지 않습니다.
+     */
+    private final Long version;
+
     @Builder
     public PostUpdate(
-        @JsonProperty("content") String content) {
+        @JsonProperty("content") String content,
+        @JsonProperty("version") Long version) {
         this.content = content;
+        this.version = version;
     }
 }
@@ -0,0 +1,46 @@
+package com.example.demo.post.domain;
+
+import com.example.demo.user.domain.UserSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 조건부 조회(If-None-Match / If-Modified-Since)를 판단하는 데 필요한 값만 담은 게시물입니다. 본문은 읽지 않습니다.
+ * 응답에 함께 내려가는 작성자 필드도 담아 작성자가 바뀌어도 검증 값이 달라지게 합니다. 조회수는 담지 않습니다.
+ */
+@Getter
+public class PostValidator {
+    private final long id;
+    private final long version;
+    private final Long createdAt;
+    private final Long modifiedAt;
+    private final UserSummary writer;
+
+    @Builder
+    public PostValidator(long id, long version, Long createdAt, Long modifiedAt, UserSummary writer) {
+        this.id = id;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.writer = writer;
+    }
+
+    public static PostValidator from(PostView post) {
+        return PostValidator.builder()
+                .id(post.getId())
+                .version(post.getVersion() != null ? post.getVersion() : 0L)
+                .createdAt(post.getCreatedAt())
+                .modifiedAt(post.getModifiedAt())
+                .writer(post.getWriter())
+                .build();
+    }
+
+    /**
+     * 수정된 적이 없으면(modifiedAt 이 없거나 0) 작성 시각을 씁니다. 작성자 정보가 그보다 늦게 바뀌었다면 그 시각입니다.
+     * 모두 없으면 -1 입니다.
+     */
+    public long getLastModifiedAt() {
+        long lastModifiedAt = modifiedAt != null && modifiedAt > 0 ? modifiedAt : createdAt != null ? createdAt : -1;
+        return writer != null ? Math.max(lastModifiedAt, writer.getLastModifiedAt()) : lastModifiedAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.post.domain;
+
+import com.example.demo.user.domain.UserSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 응답을 그리기 위해 읽은 게시물입니다. 작성자는 공개되는 필드만 담은 UserSummary 로 둡니다.
+ */
+@Getter
+public class PostView {
+    private final Long id;
+    private final String content;
+    private final Long createdAt;
+    private final Long modifiedAt;
+    private final UserSummary writer;
+    private final Long version;
+    private final Long viewCount;
+
+    @Builder
+    public PostView(Long id, String content, Long createdAt, Long modifiedAt, UserSummary writer, Long version, Long viewCount) {
+        this.id = id;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.writer = writer;
+        this.version = version;
+        this.viewCount = viewCount;
+    }
+
+    public static PostView from(Post post) {
+        return PostView.builder()
+                .id(post.getId())
+                .content(post.getContent())
+                .createdAt(post.getCreatedAt())
+                .modifiedAt(post.getModifiedAt())
+                .writer(post.getWriter() != null ? UserSummary.from(post.getWriter()) : null)
+                .version(post.getVersion())
+                .viewCount(post.getViewCount())
+                .build();
+    }
+
+    /**
+     * 아직 저장소에 반영되지 않은 조회수 views 를 더한 게시물을 돌려줍니다.
+     */
+    public PostView addViews(long views) {
+        return PostView.builder()
+                .id(id)
+                .content(content)
+                .createdAt(createdAt)
+                .modifiedAt(modifiedAt)
+                .writer(writer)
+                .version(version)
+                .viewCount((viewCount == null ? 0 : viewCount) + views)
+                .build();
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.demo.post.infrastructure;
+
+import com.example.demo.common.domain.exception.InvalidCursorException;
+import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostSearchHits;
+import com.example.demo.post.service.port.PostSearchIndex;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 프로세스 안에 둔 Lucene 인덱스입니다. 한국어 본문은 조사가 붙은 어절 단위로는 찾기 어려우므로 CJKAnalyzer 의 bigram 으로 색인합니다.
+ * indexPath 가 비어 있으면 메모리(ByteBuffersDirectory)에 두고, 아니면 indexPath 아래 세대 번호 디렉터리에 둡니다.
+ * 페이지는 (score desc, id desc) 정렬의 searchAfter 로 넘기며, 커서에 Lucene 문서 번호가 아니라 id 를 담아 재오픈 뒤에도 이어집니다.
+ * 색인은 writer 에만 넣고, 검색용 reader 는 ControlledRealTimeReopenThread 가 refreshIntervalMs 마다 한 번 다시 엽니다.
+ * 글을 쓸 때마다 reader 를 다시 열면 쓰기가 몰릴 때 세그먼트 flush 와 재오픈이 요청 수만큼 일어나기 때문입니다.
+ * 재색인은 새 디렉터리의 새 writer 에 만들어 두었다가 publish 에서 검색할 인덱스를 통째로 바꿉니다.
+ */
+@Component
+public class LucenePostSearchIndex implements PostSearchIndex, DisposableBean {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "id_sort";
+    private static final String CONTENT = "content";
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true));
+
+    private final Path indexPath;
+    private final Analyzer analyzer;
+    private final double maxStaleSeconds;
+    private final double minStaleSeconds;
+    /**
+     * index 와 search 는 읽기 잠금으로 current, building 을 쓰고, publish 와 abort 는 쓰기 잠금으로 바꿉니다.
+     * 바꾼 뒤 닫는 writer 에 index 가 쓰거나 닫힌 SearcherManager 에서 acquire 하는 일이 없게 합니다.
+     */
+    private final ReadWriteLock shardLock = new ReentrantReadWriteLock();
+    private volatile Shard current;
+    private volatile Shard building;
+
+    public LucenePostSearchIndex(
+        @Value("${post.search.index-path:}") String indexPath,
+        @Value("${post.search.refresh-interval-ms:1000}") long refreshIntervalMs) throws IOException {
+        this.indexPath = indexPath.isEmpty() ? null : Path.of(indexPath);
+        this.analyzer = new CJKAnalyzer();
+        this.maxStaleSeconds = Math.max(refreshIntervalMs, 1) / 1000.0;
+        // 기다리는 awaitRefresh 가 있을 때는 이 간격으로 당겨서 엽니다.
+        this.minStaleSeconds = Math.min(maxStaleSeconds, 0.025);
+        this.current = openShard(latestGeneration());
+        this.current.startRefreshing(maxStaleSeconds, minStaleSeconds);
+    }
+
+    /**
+     * 다음 재오픈(최대 post.search.refresh-interval-ms 뒤)부터 검색에 보입니다.
+     */
+    @Override
+    public void index(long id, String content) {
+        Document document = toDocument(id, content);
+        Lock lock = shardLock.readLock();
+        lock.lock();
+        try {
+            current.update(id, document);
+            Shard rebuilding = building;
+            if (rebuilding != null) {
+                rebuilding.update(id, document);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void awaitRefresh() {
+        // 기다리는 동안 publish 를 막지 않도록 잠그지 않습니다. 그 사이 바뀌면 제한 시간까지 기다리고 돌아옵니다.
+        Shard shard = current;
+        long generation = shard.lastGeneration.get();
+        if (generation < 0) {
+            return;
+        }
+        try {
+            shard.reopenThread.waitForGeneration(generation, (int) TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public Rebuild startRebuild() {
+        Lock lock = shardLock.writeLock();
+        lock.lock();
+        try {
+            if (building != null) {
+                throw new IllegalStateException("이미 다시 만들고 있는 검색 인덱스가 있습니다.");
+            }
+            Shard shard = openShard(current.generation + 1);
+            building = shard;
+            return new LuceneRebuild(shard);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public PostSearchHits search(String query, String cursor, int size) {
+        Query luceneQuery = new QueryBuilder(analyzer).createBooleanQuery(CONTENT, query, BooleanClause.Occur.MUST);
+        FieldDoc after = cursor == null ? null : parseCursor(cursor);
+        if (luceneQuery == null) {
+            return PostSearchHits.builder()
+                .postIds(List.of())
+                .build();
+        }
+
+        try {
+            SearcherManager searcherManager;
+            IndexSearcher searcher;
+            Lock lock = shardLock.readLock();
+            lock.lock();
+            try {
+                searcherManager = current.searcherManager;
+                searcher = searcherManager.acquire();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                int maxDoc = searcher.getIndexReader().maxDoc();
+                if (maxDoc == 0) {
+                    return PostSearchHits.builder()
+                        .postIds(List.of())
+                        .build();
+                }
+                if (after != null) {
+                    // (score, id) 가 커서와 같은 문서는 문서 번호로 한 번 더 비교되므로, 마지막 문서 번호를 넣어 그 문서를 건너뛰게 합니다.
+                    after.doc = maxDoc - 1;
+                }
+                TopFieldDocs topDocs = after == null
+                    ? searcher.search(luceneQuery, size + 1, RELEVANCE, true)
+                    : searcher.searchAfter(after, luceneQuery, size + 1, RELEVANCE, true);
+                return toHits(topDocs.scoreDocs, size);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        Shard rebuilding = building;
+        if (rebuilding != null) {
+            rebuilding.discard();
+        }
+        current.close();
+    }
+
+    /**
+     * indexPath 아래에서 가장 큰 세대 번호입니다. 메모리 인덱스이거나 아직 없으면 0 입니다.
+     */
+    private long latestGeneration() throws IOException {
+        if (indexPath == null || !Files.isDirectory(indexPath)) {
+            return 0;
+        }
+        try (Stream<Path> children = Files.list(indexPath)) {
+            return children
+                .map(child -> child.getFileName().toString())
+                .filter(name -> name.chars().allMatch(Character::isDigit))
+                .mapToLong(Long::parseLong)
+                .max()
+                .orElse(0);
+        }
+    }
+
+    private Shard openShard(long generation) throws IOException {
+        Path path = indexPath == null ? null : indexPath.resolve(String.valueOf(generation));
+        Directory directory = path == null ? new ByteBuffersDirectory() : FSDirectory.open(path);
+        IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        return new Shard(generation, path, directory, indexWriter, new SearcherManager(indexWriter, null));
+    }
+
+    private static Document toDocument(long id, String content) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(id), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, id));
+        document.add(new TextField(CONTENT, content == null ? "" : content, Field.Store.NO));
+        return document;
+    }
+
+    private static PostSearchHits toHits(ScoreDoc[] scoreDocs, int size) {
+        List<Long> postIds = new ArrayList<>(Math.min(scoreDocs.length, size));
+        for (int i = 0; i < scoreDocs.length && i < size; i++) {
+            postIds.add((Long) ((FieldDoc) scoreDocs[i]).fields[1]);
+        }
+
+        String nextCursor = null;
+        if (scoreDocs.length > size) {
+            FieldDoc last = (FieldDoc) scoreDocs[size - 1];
+            nextCursor = last.fields[0] + ":" + last.fields[1];
+        }
+        return PostSearchHits.builder()
+            .postIds(postIds)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * 클라이언트가 보낸 값이므로 toHits 가 만든 "score:id" 모양이 아니면 InvalidCursorException 을 던집니다.
+     * 문서 번호는 reader 를 잡은 뒤에 정하므로 여기서는 비워 둡니다.
+     */
+    private static FieldDoc parseCursor(String cursor) {
+        int separator = cursor.indexOf(':');
+        if (separator < 0) {
+            throw new InvalidCursorException(cursor);
+        }
+        float score;
+        long id;
+        try {
+            score = Float.parseFloat(cursor.substring(0, separator));
+            id = Long.parseLong(cursor.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        if (!Float.isFinite(score)) {
+            throw new InvalidCursorException(cursor);
+        }
+        return new FieldDoc(-1, score, new Object[]{score, id});
+    }
+
+    private class LuceneRebuild implements Rebuild {
+
+        private final Shard shard;
+
+        private LuceneRebuild(Shard shard) {
+            this.shard = shard;
+        }
+
+        @Override
+        public void indexAll(List<Post> posts) {
+            try {
+                // 재색인 중에 index 로 먼저 들어온 문서와 겹치지 않도록 id 로 바꿔 넣습니다.
+                for (Post post : posts) {
+                    shard.update(post.getId(), toDocument(post.getId(), post.getContent()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void publish() {
+            Shard previous;
+            try {
+                shard.indexWriter.commit();
+                shard.searcherManager.maybeRefreshBlocking();
+                shard.startRefreshing(maxStaleSeconds, minStaleSeconds);
+
+                Lock lock = shardLock.writeLock();
+                lock.lock();
+                try {
+                    if (building != shard) {
+                        throw new IllegalStateException("이미 끝났거나 버린 재색인입니다.");
+                    }
+                    previous = current;
+                    current = shard;
+                    building = null;
+                } finally {
+                    lock.unlock();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            previous.discard();
+        }
+
+        @Override
+        public void abort() {
+            Lock lock = shardLock.writeLock();
+            lock.lock();
+            try {
+                if (building != shard) {
+                    return;
+                }
+                building = null;
+            } finally {
+                lock.unlock();
+            }
+            shard.discard();
+        }
+    }
+
+    /**
+     * 한 세대의 디렉터리와 writer, reader 입니다. reopenThread 는 검색에 쓰기 시작할 때 띄웁니다.
+     */
+    private static class Shard {
+
+        private final long generation;
+        private final Path path;
+        private final Directory directory;
+        private final IndexWriter indexWriter;
+        private final SearcherManager searcherManager;
+        /**
+         * 마지막으로 반영한 변경의 시퀀스 번호입니다. awaitRefresh 가 이 번호까지 보이기를 기다립니다.
+         */
+        private final AtomicLong lastGeneration = new AtomicLong(-1);
+        private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+        private Shard(long generation, Path path, Directory directory, IndexWriter indexWriter, SearcherManager searcherManager) {
+            this.generation = generation;
+            this.path = path;
+            this.directory = directory;
+            this.indexWriter = indexWriter;
+            this.searcherManager = searcherManager;
+        }
+
+        private void update(long id, Document document) throws IOException {
+            long sequence = indexWriter.updateDocument(new Term(ID, String.valueOf(id)), document);
+            lastGeneration.accumulateAndGet(sequence, Math::max);
+        }
+
+        private void startRefreshing(double maxStaleSeconds, double minStaleSeconds) {
+            reopenThread = new ControlledRealTimeReopenThread<>(indexWriter, searcherManager, maxStaleSeconds, minStaleSeconds);
+            reopenThread.setName("post-search-refresh-" + generation);
+            reopenThread.setDaemon(true);
+            reopenThread.start();
+        }
+
+        private void close() throws IOException {
+            if (reopenThread != null) {
+                reopenThread.close();
+            }
+            searcherManager.close();
+            indexWriter.close();
+            directory.close();
+        }
+
+        /**
+         * 닫고 디렉터리까지 지웁니다. 이미 acquire 한 searcher 는 release 할 때까지 그대로 읽을 수 있습니다.
+         */
+        private void discard() {
+            try {
+                close();
+                if (path != null) {
+                    IOUtils.rm(path);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -1,27 +1,33 @@
 package com.example.demo.post.infrastructure;
 
 import com.example.demo.post.domain.Post;
+import com.example.demo.user.domain.User;
 import com.example.demo.user.infrastructure.UserEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = @Index(name = "idx_posts_user_id_id", columnList = "user_id, id"))
 public class PostEntity {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "content")
@@ -37,13 +43,31 @@ public class PostEntity {
     @JoinColumn(name = "user_id")
     private UserEntity writer;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
     public Post toModel() {
+        return toModel(writer.toModel());
+    }
+
+    /**
+     * 이미 알고 있는 작성자로 변환합니다. writer 가 초기화되지 않은 참조여도 조회하지 않습니다.
+     */
+    public Post toModel(User writer) {
         return Post.builder()
                 .id(id)
                 .content(content)
                 .createdAt(createdAt)
                 .modifiedAt(modifiedAt)
-                .writer(writer.toModel())
+                .writer(writer)
+                .version(version)
+                .viewCount(viewCount)
                 .build();
     }
 
@@ -54,6 +78,8 @@ public class PostEntity {
         postEntity.createdAt = post.getCreatedAt();
         postEntity.modifiedAt = post.getModifiedAt();
         postEntity.writer = UserEntity.fromModel(post.getWriter());
+        postEntity.version = post.getVersion();
+        postEntity.viewCount = post.getViewCount() == null ? 0 : post.getViewCount();
         return postEntity;
     }
 }
\ No newline at end of file
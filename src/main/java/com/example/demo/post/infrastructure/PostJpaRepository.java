@@ -1,7 +1,47 @@
 package com.example.demo.post.infrastructure;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostJpaRepository extends JpaRepository<PostEntity, Long> {
 
-}
\ No newline at end of file
+    String SELECT_POST_WITH_WRITER = "select new com.example.demo.post.infrastructure.PostWithWriterProjection("
+        + "p.id, p.content, p.createdAt, p.modifiedAt, p.version, p.viewCount, w.id, w.email, w.nickname, w.status, w.lastLoginAt, w.modifiedAt) "
+        + "from PostEntity p join p.writer w ";
+
+    @Query(SELECT_POST_WITH_WRITER + "where p.id = :id")
+    Optional<PostWithWriterProjection> findWithWriterById(@Param("id") long id);
+
+    @Query("select new com.example.demo.post.infrastructure.PostValidatorProjection("
+        + "p.id, p.version, p.createdAt, p.modifiedAt, w.id, w.email, w.nickname, w.status, w.lastLoginAt, w.modifiedAt) "
+        + "from PostEntity p join p.writer w where p.id = :id")
+    Optional<PostValidatorProjection> findValidatorById(@Param("id") long id);
+
+    @Query(SELECT_POST_WITH_WRITER + "where p.id in :ids")
+    List<PostWithWriterProjection> findWithWriterByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_POST_WITH_WRITER + "where w.id = :writerId order by p.id desc")
+    List<PostWithWriterProjection> findWithWriterByWriterId(@Param("writerId") long writerId, Pageable pageable);
+
+    @Query(SELECT_POST_WITH_WRITER + "where w.id = :writerId and p.id < :cursor order by p.id desc")
+    List<PostWithWriterProjection> findWithWriterByWriterIdAndIdLessThan(
+        @Param("writerId") long writerId, @Param("cursor") long cursor, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update PostEntity p set p.content = :content, p.modifiedAt = :modifiedAt, p.version = p.version + 1 "
+        + "where p.id = :id and p.version = :expectedVersion")
+    int updateContent(
+        @Param("id") long id,
+        @Param("expectedVersion") long expectedVersion,
+        @Param("content") String content,
+        @Param("modifiedAt") long modifiedAt);
+}
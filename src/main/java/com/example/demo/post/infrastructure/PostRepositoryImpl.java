@@ -1,25 +1,148 @@
 package com.example.demo.post.infrastructure;
 
 import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostExportCondition;
+import com.example.demo.post.domain.PostValidator;
+import com.example.demo.post.domain.PostView;
 import com.example.demo.post.service.port.PostRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.demo.user.domain.User;
+import com.example.demo.user.infrastructure.UserJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
-@RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepository {
 
     private final PostJpaRepository postJpaRepository;
+    private final UserJpaRepository userJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int exportFetchSize;
+
+    public PostRepositoryImpl(
+        PostJpaRepository postJpaRepository,
+        UserJpaRepository userJpaRepository,
+        JdbcTemplate jdbcTemplate,
+        @Value("${post.export.fetch-size:1000}") int exportFetchSize) {
+        this.postJpaRepository = postJpaRepository;
+        this.userJpaRepository = userJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportFetchSize = exportFetchSize;
+    }
 
     @Override
     public Optional<Post> findById(long id) {
         return postJpaRepository.findById(id).map(PostEntity::toModel);
     }
 
+    @Override
+    public Optional<PostView> findViewById(long id) {
+        return postJpaRepository.findWithWriterById(id).map(PostWithWriterProjection::toModel);
+    }
+
+    @Override
+    public Optional<PostValidator> findValidatorById(long id) {
+        return postJpaRepository.findValidatorById(id).map(PostValidatorProjection::toModel);
+    }
+
+    @Override
+    public List<PostView> findViewsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return postJpaRepository.findWithWriterByIdIn(ids).stream().map(PostWithWriterProjection::toModel).toList();
+    }
+
+    @Override
+    public List<PostView> findByWriterId(long writerId, Long cursor, int limit) {
+        // OFFSET 대신 마지막으로 본 id 에서 이어 읽으므로 몇 번째 페이지든 idx_posts_user_id_id 에서 limit 건만 읽습니다.
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<PostWithWriterProjection> projections = cursor == null
+            ? postJpaRepository.findWithWriterByWriterId(writerId, pageRequest)
+            : postJpaRepository.findWithWriterByWriterIdAndIdLessThan(writerId, cursor, pageRequest);
+        return projections.stream().map(PostWithWriterProjection::toModel).toList();
+    }
+
+    @Override
+    public boolean updateContent(long id, long expectedVersion, String content, long modifiedAt) {
+        return postJpaRepository.updateContent(id, expectedVersion, content, modifiedAt) == 1;
+    }
+
+    @Override
+    public void addViewCounts(Map<Long, Long> viewsByPostId) {
+        List<Object[]> batchArgs = viewsByPostId.entrySet().stream()
+            .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+            .toList();
+        jdbcTemplate.batchUpdate("update posts set view_count = view_count + ? where id = ?", batchArgs);
+    }
+
+    /**
+     * 엔티티를 거치지 않고 forward-only 커서로 exportFetchSize 건씩 받아 읽습니다.
+     * 드라이버가 커서를 유지하도록(PostgreSQL 은 autocommit 이 꺼져 있어야 합니다) 읽기 전용 트랜잭션 안에서 실행합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(PostExportCondition condition, Consumer<Post> consumer) {
+        StringBuilder sql = new StringBuilder(
+            "select id, content, created_at, modified_at, version, user_id from posts where 1 = 1");
+        List<Long> args = new ArrayList<>(4);
+        appendRange(sql, args, "created_at", condition.getCreatedAtFrom(), condition.getCreatedAtTo());
+        appendRange(sql, args, "modified_at", condition.getModifiedAtFrom(), condition.getModifiedAtTo());
+        sql.append(" order by id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportFetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setLong(i + 1, args.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(toExportedPost(resultSet)));
+    }
+
+    private static void appendRange(StringBuilder sql, List<Long> args, String column, Long from, Long to) {
+        if (from != null) {
+            sql.append(" and ").append(column).append(" >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append(" and ").append(column).append(" < ?");
+            args.add(to);
+        }
+    }
+
+    private static Post toExportedPost(ResultSet resultSet) throws SQLException {
+        return Post.builder()
+            .id(resultSet.getLong("id"))
+            .content(resultSet.getString("content"))
+            .createdAt(resultSet.getObject("created_at", Long.class))
+            .modifiedAt(resultSet.getObject("modified_at", Long.class))
+            .version(resultSet.getLong("version"))
+            .writer(User.builder()
+                .id(resultSet.getObject("user_id", Long.class))
+                .build())
+            .build();
+    }
+
     @Override
     public Post save(Post post) {
-        return postJpaRepository.save(PostEntity.fromModel(post)).toModel();
+        // 작성자는 FK 만 필요하므로 detached UserEntity 대신 프록시를 연결해 users 를 다시 읽거나 merge 하지 않습니다.
+        PostEntity postEntity = PostEntity.fromModel(post);
+        postEntity.setWriter(userJpaRepository.getReferenceById(post.getWriter().getId()));
+        return postJpaRepository.save(postEntity).toModel(post.getWriter());
     }
 }
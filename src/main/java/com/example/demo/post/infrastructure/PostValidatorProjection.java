@@ -0,0 +1,57 @@
+package com.example.demo.post.infrastructure;
+
+import com.example.demo.post.domain.PostValidator;
+import com.example.demo.user.domain.UserSummary;
+import com.example.demo.user.domain.UserStatus;
+import lombok.Getter;
+
+/**
+ * 조건부 조회 판단에 쓰는 JPQL 생성자 projection 입니다. content 는 읽지 않습니다.
+ */
+@Getter
+public class PostValidatorProjection {
+
+    private final Long id;
+    private final Long version;
+    private final Long createdAt;
+    private final Long modifiedAt;
+    private final Long writerId;
+    private final String writerEmail;
+    private final String writerNickname;
+    private final UserStatus writerStatus;
+    private final Long writerLastLoginAt;
+    private final Long writerModifiedAt;
+
+    public PostValidatorProjection(
+        Long id, Long version, Long createdAt, Long modifiedAt,
+        Long writerId, String writerEmail, String writerNickname, UserStatus writerStatus, Long writerLastLoginAt,
+        Long writerModifiedAt) {
+        this.id = id;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.writerId = writerId;
+        this.writerEmail = writerEmail;
+        this.writerNickname = writerNickname;
+        this.writerStatus = writerStatus;
+        this.writerLastLoginAt = writerLastLoginAt;
+        this.writerModifiedAt = writerModifiedAt;
+    }
+
+    public PostValidator toModel() {
+        return PostValidator.builder()
+                .id(id)
+                .version(version)
+                .createdAt(createdAt)
+                .modifiedAt(modifiedAt)
+                .writer(UserSummary.builder()
+                        .id(writerId)
+                        .email(writerEmail)
+                        .nickname(writerNickname)
+                        .status(writerStatus)
+                        .lastLoginAt(writerLastLoginAt)
+                        .modifiedAt(writerModifiedAt)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.post.infrastructure;
+
+import com.example.demo.post.domain.PostView;
+import com.example.demo.user.domain.UserSummary;
+import com.example.demo.user.domain.UserStatus;
+import lombok.Getter;
+
+/**
+ * 게시물과 작성자를 한 번의 join 으로 읽기 위한 JPQL 생성자 projection 입니다.
+ * PostResponse 가 내려주는 컬럼만 담으며, 영속성 컨텍스트에 엔티티를 올리지 않습니다.
+ */
+@Getter
+public class PostWithWriterProjection {
+
+    private final Long id;
+    private final String content;
+    private final Long createdAt;
+    private final Long modifiedAt;
+    private final Long version;
+    private final Long viewCount;
+    private final Long writerId;
+    private final String writerEmail;
+    private final String writerNickname;
+    private final UserStatus writerStatus;
+    private final Long writerLastLoginAt;
+    private final Long writerModifiedAt;
+
+    public PostWithWriterProjection(
+        Long id, String content, Long createdAt, Long modifiedAt, Long version, Long viewCount,
+        Long writerId, String writerEmail, String writerNickname, UserStatus writerStatus, Long writerLastLoginAt,
+        Long writerModifiedAt) {
+        this.id = id;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.version = version;
+        this.viewCount = viewCount;
+        this.writerId = writerId;
+        this.writerEmail = writerEmail;
+        this.writerNickname = writerNickname;
+        this.writerStatus = writerStatus;
+        this.writerLastLoginAt = writerLastLoginAt;
+        this.writerModifiedAt = writerModifiedAt;
+    }
+
+    public PostView toModel() {
+        return PostView.builder()
+                .id(id)
+                .content(content)
+                .createdAt(createdAt)
+                .modifiedAt(modifiedAt)
+                .version(version)
+                .viewCount(viewCount)
+                .writer(UserSummary.builder()
+                        .id(writerId)
+                        .email(writerEmail)
+                        .nickname(writerNickname)
+                        .status(writerStatus)
+                        .lastLoginAt(writerLastLoginAt)
+                        .modifiedAt(writerModifiedAt)
+                        .build())
+                .build();
+    }
+}
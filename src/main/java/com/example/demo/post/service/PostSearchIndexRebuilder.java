@@ -0,0 +1,114 @@
+package com.example.demo.post.service;
+
+import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostExportCondition;
+import com.example.demo.post.service.port.PostRepository;
+import com.example.demo.post.service.port.PostSearchIndex;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * posts 전체를 읽어 검색 인덱스를 다시 만듭니다. 읽기는 export 커서 하나로 하고,
+ * 분석과 색인은 batchSize 건씩 threads 개(0 이면 코어 수)의 스레드에 나눠 맡깁니다.
+ * post.search.rebuild-on-startup 이 true 이면 애플리케이션이 뜰 때 한 번 실행하고, 운영 중에는 POST /internal/search/rebuild 로 실행합니다.
+ */
+@Slf4j
+@Service
+public class PostSearchIndexRebuilder implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final boolean rebuildOnStartup;
+    private final int threads;
+    private final int batchSize;
+
+    @Builder
+    public PostSearchIndexRebuilder(
+        PostRepository postRepository,
+        PostSearchIndex postSearchIndex,
+        @Value("${post.search.rebuild-on-startup:true}") boolean rebuildOnStartup,
+        @Value("${post.search.rebuild-threads:0}") int threads,
+        @Value("${post.search.rebuild-batch-size:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup) {
+            long startedAt = System.nanoTime();
+            long indexed = rebuild();
+            log.info("게시물 검색 인덱스를 다시 만들었습니다. {} 건, {} ms, {} 스레드",
+                indexed, (System.nanoTime() - startedAt) / 1_000_000, threads);
+        }
+    }
+
+    /**
+     * 새 인덱스에 만들어 두었다가 다 넣은 뒤에 검색할 인덱스를 바꾸므로, 그동안 검색은 이전 인덱스로 답합니다.
+     * 다시 만드는 동안 생성된 게시물은 빠지지 않지만, 수정된 게시물은 커서가 읽은 시점의 본문으로 덮일 수 있습니다.
+     * 인덱스는 재색인을 하나만 열 수 있으므로 한 번에 하나씩 실행합니다.
+     */
+    public synchronized long rebuild() {
+        PostSearchIndex.Rebuild rebuild = postSearchIndex.startRebuild();
+        try {
+            long indexed = indexAll(rebuild);
+            rebuild.publish();
+            return indexed;
+        } catch (RuntimeException e) {
+            rebuild.abort();
+            throw e;
+        }
+    }
+
+    private long indexAll(PostSearchIndex.Rebuild rebuild) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        // 읽기가 색인보다 빠를 때 배치가 힙에 쌓이지 않도록 진행 중인 배치 수를 제한합니다.
+        Semaphore inFlight = new Semaphore(threads * 2);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        AtomicReference<List<Post>> batch = new AtomicReference<>(new ArrayList<>(batchSize));
+        LongAdder count = new LongAdder();
+        try {
+            postRepository.export(PostExportCondition.builder().build(), post -> {
+                batch.get().add(post);
+                count.increment();
+                if (batch.get().size() == batchSize) {
+                    futures.add(submit(rebuild, executor, inFlight, batch.getAndSet(new ArrayList<>(batchSize))));
+                }
+            });
+            if (!batch.get().isEmpty()) {
+                futures.add(submit(rebuild, executor, inFlight, batch.get()));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        return count.sum();
+    }
+
+    private CompletableFuture<Void> submit(PostSearchIndex.Rebuild rebuild, ExecutorService executor, Semaphore inFlight, List<Post> posts) {
+        inFlight.acquireUninterruptibly();
+        return CompletableFuture.runAsync(() -> {
+            try {
+                rebuild.indexAll(posts);
+            } finally {
+                inFlight.release();
+            }
+        }, executor);
+    }
+}
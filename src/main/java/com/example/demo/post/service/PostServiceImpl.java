@@ -1,41 +1,165 @@
 package com.example.demo.post.service;
 
 import com.example.demo.common.domain.exception.ResourceNotFoundException;
+import com.example.demo.common.domain.exception.VersionConflictException;
+import com.example.demo.common.domain.exception.VersionRequiredException;
 import com.example.demo.common.service.ClockHolder;
 import com.example.demo.post.controller.port.PostService;
 import com.example.demo.post.domain.Post;
 import com.example.demo.post.domain.PostCreate;
+import com.example.demo.post.domain.PostExportCondition;
+import com.example.demo.post.domain.PostSearchHits;
+import com.example.demo.post.domain.PostSearchSlice;
+import com.example.demo.post.domain.PostSlice;
 import com.example.demo.post.domain.PostUpdate;
+import com.example.demo.post.domain.PostValidator;
+import com.example.demo.post.domain.PostView;
 import com.example.demo.post.service.port.PostRepository;
+import com.example.demo.post.service.port.PostSearchIndex;
 import com.example.demo.user.domain.User;
-
+import com.example.demo.user.service.UserCache;
 import com.example.demo.user.service.port.UserRepository;
 import lombok.Builder;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.function.Consumer;
+
 @Service
-@Builder
-@RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final ClockHolder clockHolder;
+    private final UserCache userCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostViewCounter postViewCounter;
+    private final boolean versionRequired;
+
+    @Builder
+    public PostServiceImpl(
+        PostRepository postRepository,
+        UserRepository userRepository,
+        ClockHolder clockHolder,
+        UserCache userCache,
+        PostSearchIndex postSearchIndex,
+        PostViewCounter postViewCounter,
+        @Value("${post.update.version-required:false}") boolean versionRequired) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.clockHolder = clockHolder;
+        this.userCache = userCache;
+        this.postSearchIndex = postSearchIndex;
+        this.postViewCounter = postViewCounter;
+        this.versionRequired = versionRequired;
+    }
+
+    public PostView getById(long id) {
+        return postRepository.findViewById(id)
+            .map(postViewCounter::merge)
+            .orElseThrow(() -> new ResourceNotFoundException("Posts", id));
+    }
+
+    /**
+     * 게시물을 읽고 조회수를 하나 올립니다. 조회수는 PostViewCounter 에 쌓였다가 나중에 한꺼번에 반영됩니다.
+     */
+    public PostView view(long id) {
+        PostView post = getById(id);
+        countView(id);
+        return post.addViews(1);
+    }
 
-    public Post getById(long id) {
-        return postRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Posts", id));
+    public PostValidator getValidatorById(long id) {
+        return postRepository.findValidatorById(id).orElseThrow(() -> new ResourceNotFoundException("Posts", id));
     }
 
+    /**
+     * 본문을 다시 내려주지 않는 조회(304)도 조회수에 셉니다.
+     */
+    public void countView(long id) {
+        postViewCounter.increment(id);
+    }
+
+    /**
+     * size 는 1 ~ MAX_PAGE_SIZE 로 맞춥니다. 한 건을 더 읽어 다음 페이지가 있는지 판단합니다.
+     */
+    public PostSlice getByWriterId(long writerId, Long cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<PostView> posts = postRepository.findByWriterId(writerId, cursor, limit + 1).stream()
+            .map(postViewCounter::merge)
+            .toList();
+        if (posts.size() <= limit) {
+            return PostSlice.builder()
+                .posts(posts)
+                .build();
+        }
+
+        List<PostView> page = posts.subList(0, limit);
+        return PostSlice.builder()
+            .posts(page)
+            .nextCursor(page.get(limit - 1).getId())
+            .build();
+    }
+
+    /**
+     * 작성자는 UserCache 에서 먼저 찾고, 없을 때만 읽어서 캐시에 올립니다. 저장할 때는 작성자를 id 참조로만 연결합니다.
+     */
     public Post create(PostCreate postCreate) {
-        User writer = userRepository.getById(postCreate.getWriterId());
-        Post post = Post.from(writer, postCreate, clockHolder);
-        return postRepository.save(post);
+        long writerId = postCreate.getWriterId();
+        User writer = userCache.getById(writerId)
+            .orElseGet(() -> userCache.put(userRepository.getById(writerId)));
+        Post post = postRepository.save(Post.from(writer, postCreate, clockHolder));
+        postSearchIndex.index(post.getId(), post.getContent());
+        return post;
+    }
+
+    /**
+     * 버전을 조건으로 한 UPDATE 한 번으로 수정합니다. 반영되지 않았을 때만 게시물이 있는지 확인해 404 와 409 를 가립니다.
+     * 기준 버전 없이 덮어쓰면 동시에 한 수정이 사라지므로, post.update.version-required 가 켜져 있으면 버전이 없을 때 수정하지 않습니다.
+     * 꺼져 있으면 버전을 보내지 않는 기존 클라이언트를 위해 지금 버전을 기준으로 덮어씁니다.
+     */
+    public PostView update(long id, PostUpdate postUpdate) {
+        Long version = postUpdate.getVersion();
+        if (version == null) {
+            if (versionRequired) {
+                throw new VersionRequiredException("Posts", id);
+            }
+            version = getValidatorById(id).getVersion();
+        }
+        boolean updated = postRepository.updateContent(
+            id, version, postUpdate.getContent(), clockHolder.millis());
+        if (!updated) {
+            getById(id);
+            throw new VersionConflictException("Posts", id, version);
+        }
+        PostView post = getById(id);
+        postSearchIndex.index(post.getId(), post.getContent());
+        return post;
+    }
+
+    public void export(PostExportCondition condition, Consumer<Post> consumer) {
+        postRepository.export(condition, consumer);
     }
 
-    public Post update(long id, PostUpdate postUpdate) {
-        Post post = getById(id);
-        post = post.update(postUpdate, clockHolder);
-        return postRepository.save(post);
+    /**
+     * 인덱스에서 관련도 순으로 id 를 찾고 게시물은 한 번의 IN 조회로 채웁니다. 그 사이 지워진 게시물은 빠집니다.
+     */
+    public PostSearchSlice search(String query, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PostSearchHits hits = postSearchIndex.search(query, cursor, limit);
+        Map<Long, PostView> postsById = postRepository.findViewsByIds(hits.getPostIds()).stream()
+            .map(postViewCounter::merge)
+            .collect(Collectors.toMap(PostView::getId, Function.identity()));
+        return PostSearchSlice.builder()
+            .posts(hits.getPostIds().stream().map(postsById::get).filter(Objects::nonNull).toList())
+            .nextCursor(hits.getNextCursor())
+            .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.example.demo.post.service;
+
+import com.example.demo.post.domain.PostView;
+import com.example.demo.post.service.port.PostRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Builder;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시물 조회수를 요청마다 UPDATE 하지 않고 게시물별 LongAdder 에 모아 두었다가 주기적으로 한 번의 배치로 더합니다.
+ * LongAdder 는 경합이 생기면 셀을 나눠 쓰므로 같은 게시물에 조회가 몰려도 행 잠금이나 한 변수의 CAS 에서 줄 서지 않습니다.
+ * 반영되지 않은 조회수는 merge 로 읽기 결과에 더해집니다.
+ * 남은 조회수는 종료할 때 stop 에서 반영합니다. LoginActivityRecorder 와 같이 DataSource 가 닫히기 전에 도는 SmartLifecycle 을 씁니다.
+ */
+@Service
+public class PostViewCounter implements MeterBinder, SmartLifecycle {
+
+    private final PostRepository postRepository;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private volatile boolean running;
+
+    @Builder
+    public PostViewCounter(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    public void increment(long postId) {
+        recorded.increment();
+        add(postId, 1);
+    }
+
+    /**
+     * 반영되지 않은 조회수를 더한 게시물을 돌려줍니다.
+     */
+    public PostView merge(PostView post) {
+        LongAdder views = pending.get(post.getId());
+        if (views == null) {
+            return post;
+        }
+        long sum = views.sum();
+        return sum == 0 ? post : post.addViews(sum);
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 요청을 그만 받은 뒤에 멈추도록 그보다 낮은 단계에 둡니다.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("post.view.recorded", recorded, LongAdder::sum)
+            .description("기록된 게시물 조회 수")
+            .register(registry);
+        FunctionCounter.builder("post.view.flushed", flushed, LongAdder::sum)
+            .description("조회수를 반영한 UPDATE 수")
+            .register(registry);
+        Gauge.builder("post.view.pending", pending, Map::size)
+            .description("조회수 반영을 기다리는 게시물 수")
+            .register(registry);
+    }
+
+    private void add(long postId, long views) {
+        // 이미 있는 게시물은 get 만으로 찾아 computeIfAbsent 의 bin 잠금을 피합니다.
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.add(views);
+
+        // flush 가 그 사이 이 adder 를 목록에서 뺐다면 방금 더한 값이 남아 있을 수 있으므로 새 adder 로 옮깁니다.
+        // sumThenReset 은 셀마다 getAndSet 하므로 flush 쪽과 동시에 옮겨도 같은 값이 두 번 옮겨지지 않습니다.
+        if (pending.get(postId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved != 0) {
+                add(postId, moved);
+            }
+        }
+    }
+
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> batch = new HashMap<>();
+        pending.forEach((postId, adder) -> {
+            long views = adder.sum();
+            if (views != 0) {
+                batch.put(postId, views);
+            } else if (pending.remove(postId, adder)) {
+                // 한 주기 동안 조회가 없던 게시물만 목록에서 뺍니다. 빼는 사이 더해진 값은 다시 넣습니다.
+                long moved = adder.sumThenReset();
+                if (moved != 0) {
+                    add(postId, moved);
+                }
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 쓰기 전에 빼 둡니다. 쓴 뒤에 빼면 그 사이의 조회가 DB 와 pending 양쪽의 같은 조회수를 더해 두 번 셉니다.
+        // 대신 쓰는 동안의 조회는 이번 묶음만큼 적게 보며, 이는 다음 읽기에서 바로잡힙니다.
+        // 빼는 동안 adder 는 목록에 남아 있습니다. 조회가 없던 adder 를 빼는 일은 flushLock 안에서만 하기 때문입니다.
+        batch.forEach((postId, views) -> pending.get(postId).add(-views));
+        try {
+            postRepository.addViewCounts(batch);
+        } catch (RuntimeException e) {
+            // 반영하지 못한 조회수는 되돌려 다음 flush 에서 다시 씁니다.
+            batch.forEach(this::add);
+            throw e;
+        }
+        flushed.add(batch.size());
+    }
+}
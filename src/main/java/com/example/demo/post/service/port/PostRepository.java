@@ -1,15 +1,60 @@
 package com.example.demo.post.service.port;
 
 import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostExportCondition;
+import com.example.demo.post.domain.PostValidator;
+import com.example.demo.post.domain.PostView;
 import com.example.demo.post.infrastructure.PostEntity;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PostRepository {
     Optional<Post> findById(long id);
 
+    /**
+     * 응답을 그리기 위한 조회입니다. writer 는 공개되는 필드만 담은 UserSummary 입니다.
+     */
+    Optional<PostView> findViewById(long id);
+
+    /**
+     * 조건부 조회를 판단할 값만 읽습니다. content 는 읽지 않습니다.
+     */
+    Optional<PostValidator> findValidatorById(long id);
+
+    /**
+     * findViewById 의 여러 건 버전입니다. 없는 id 는 건너뛰며 순서는 보장하지 않습니다.
+     */
+    List<PostView> findViewsByIds(Collection<Long> ids);
+
+    /**
+     * writerId 가 쓴 게시물을 id 내림차순으로 limit 건 가져옵니다. cursor 가 있으면 그보다 작은 id 부터 가져옵니다.
+     * findViewById 와 같이 writer 는 UserSummary 입니다.
+     */
+    List<PostView> findByWriterId(long writerId, Long cursor, int limit);
+
 
     Post save(Post post);
 
+    /**
+     * 읽지 않고 한 번의 UPDATE 로 content 와 modifiedAt 을 바꾸고 버전을 올립니다.
+     * 현재 버전이 expectedVersion 과 같을 때만 반영합니다. 반영된 행이 없으면 false 를 돌려줍니다.
+     */
+    boolean updateContent(long id, long expectedVersion, String content, long modifiedAt);
+
+    /**
+     * 게시물별로 쌓인 조회수를 view_count 에 더합니다. 버전과 modifiedAt 은 바꾸지 않으며, 없는 게시물은 건너뜁니다.
+     */
+    void addViewCounts(Map<Long, Long> viewsByPostId);
+
+    /**
+     * 조건에 맞는 게시물을 id 순으로 한 건씩 consumer 에 넘깁니다. 결과를 모아 두지 않으므로 건수와 무관하게 메모리를 일정하게 씁니다.
+     * writer 에는 id 만 채워집니다.
+     */
+    void export(PostExportCondition condition, Consumer<Post> consumer);
+
 
 }
@@ -0,0 +1,52 @@
+package com.example.demo.post.service.port;
+
+import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostSearchHits;
+
+import java.util.List;
+
+/**
+ * 게시물 본문(content)의 역색인입니다. 구현은 여러 스레드에서 동시에 호출될 수 있어야 합니다.
+ */
+public interface PostSearchIndex {
+
+    /**
+     * 같은 id 의 문서가 있으면 바꾸고 없으면 추가합니다. 검색에는 구현이 정한 짧은 지연 뒤에 보일 수 있습니다.
+     * 재색인 중이면 만들고 있는 인덱스에도 넣으므로 publish 뒤에도 빠지지 않습니다.
+     */
+    void index(long id, String content);
+
+    /**
+     * 지금까지 index 로 반영한 문서가 검색에 보일 때까지 기다립니다.
+     */
+    void awaitRefresh();
+
+    /**
+     * 재색인할 빈 인덱스를 엽니다. 검색은 publish 전까지 지금 인덱스를 그대로 쓰므로, 다시 만드는 동안에도 결과가 비지 않습니다.
+     * 한 번에 하나만 열 수 있습니다.
+     */
+    Rebuild startRebuild();
+
+    /**
+     * query 와 관련도가 높은 순(같으면 id 내림차순)으로 size 건을 찾습니다. cursor 는 앞 페이지의 nextCursor 입니다.
+     */
+    PostSearchHits search(String query, String cursor, int size);
+
+    interface Rebuild {
+
+        /**
+         * 만들고 있는 인덱스에 id 로 바꿔 넣습니다. 여러 스레드에서 동시에 호출할 수 있습니다.
+         */
+        void indexAll(List<Post> posts);
+
+        /**
+         * 만든 인덱스를 commit 하고, 검색이 그 인덱스를 쓰도록 한 번에 바꿉니다. 이전 인덱스는 닫습니다.
+         */
+        void publish();
+
+        /**
+         * publish 하지 않은 인덱스를 버립니다. 검색은 이전 인덱스를 계속 씁니다.
+         */
+        void abort();
+    }
+}
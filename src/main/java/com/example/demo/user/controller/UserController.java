@@ -5,14 +5,17 @@ import com.example.demo.user.controller.request.UserUpdateRequest;
 import com.example.demo.user.controller.response.MyProfileResponse;
 import com.example.demo.user.controller.response.UserResponse;
 import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserSummary;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 
@@ -25,12 +28,24 @@ public class UserController {
 
     private final UserService userService;
 
+    /**
+     * 유저는 UserCache 에서 읽으므로 DB 를 거치지 않고 ETag 와 Last-Modified 를 계산합니다.
+     * 같은 내용을 JSON, CBOR, Smile 중 Accept 에 맞춰 내려주므로 바이트가 다른 표현끼리 같은 ETag 를 쓰는 약한(W/) ETag 로 두고,
+     * 캐시가 표현을 섞지 않도록 Vary: Accept 를 붙입니다.
+     */
     @ResponseStatus
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable long id) {
+    public ResponseEntity<UserResponse> getUserById(@PathVariable long id, WebRequest webRequest) {
+        UserSummary user = UserSummary.from(userService.getById(id));
+        if (webRequest.checkNotModified("W/\"" + UserResponse.contentHash(user) + "\"", user.getLastModifiedAt())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+        }
         return ResponseEntity
             .ok()
-            .body(UserResponse.from(userService.getById(id)));
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(UserResponse.from(user));
     }
 
     @GetMapping("/{id}/verify")
@@ -49,9 +64,7 @@ public class UserController {
         @RequestHeader("EMAIL") String email // 일반적으로 스프링 시큐리티를 사용한다면 UserPrincipal 에서 가져옵니다.
     ) {
         User user = userService.getByEmail(email);
-        userService.login(user.getId());
-
-        user = userService.getByEmail(email);
+        user = userService.login(user);
         return ResponseEntity
             .ok()
             .body(MyProfileResponse.from(user));
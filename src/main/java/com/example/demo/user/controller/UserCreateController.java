@@ -1,6 +1,7 @@
 package com.example.demo.user.controller;
 
 import com.example.demo.user.controller.port.UserService;
+import com.example.demo.user.controller.response.UserCreateResultResponse;
 import com.example.demo.user.controller.response.UserResponse;
 import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserCreate;
@@ -14,6 +15,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "유저(users)")
 @RestController
 @RequestMapping("/api/users")
@@ -30,4 +33,13 @@ public class UserCreateController {
             .body(UserResponse.from(userEntity));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserCreateResultResponse>> createUsers(@RequestBody List<UserCreate> userCreates) {
+        return ResponseEntity
+            .ok()
+            .body(userService.createAll(userCreates).stream()
+                .map(UserCreateResultResponse::from)
+                .toList());
+    }
+
 }
\ No newline at end of file
@@ -2,13 +2,18 @@ package com.example.demo.user.controller.port;
 
 import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserCreate;
+import com.example.demo.user.domain.UserCreateResult;
 import com.example.demo.user.domain.UserUpdate;
 
+import java.util.List;
+
 public interface UserService {
     User getByEmail(String email);
     User getById(long id);
     User create(UserCreate userCreate);
+    List<UserCreateResult> createAll(List<UserCreate> userCreates);
     User update(long id, UserUpdate userUpdate);
     void login(long id);
+    User login(User user);
     void verifyEmail(long id, String certificationCode);
 }
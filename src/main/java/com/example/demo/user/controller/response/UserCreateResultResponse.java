@@ -0,0 +1,26 @@
+package com.example.demo.user.controller.response;
+
+import com.example.demo.user.domain.UserCreateResult;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UserCreateResultResponse {
+
+    private int index;
+    private String email;
+    private boolean created;
+    private UserResponse user;
+    private String failureReason;
+
+    public static UserCreateResultResponse from(UserCreateResult result) {
+        return UserCreateResultResponse.builder()
+                .index(result.getIndex())
+                .email(result.getEmail())
+                .created(result.isCreated())
+                .user(result.isCreated() ? UserResponse.from(result.getUser()) : null)
+                .failureReason(result.getFailureReason())
+                .build();
+    }
+}
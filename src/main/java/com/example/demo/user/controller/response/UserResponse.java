@@ -1,11 +1,18 @@
 package com.example.demo.user.controller.response;
 
 import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserSummary;
 import com.example.demo.user.domain.UserStatus;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
 @Getter
 @Builder
 public class UserResponse {
@@ -17,6 +24,10 @@ public class UserResponse {
     private Long lastLoginAt;
 
     public static UserResponse from(User user) {
+        return from(UserSummary.from(user));
+    }
+
+    public static UserResponse from(UserSummary user) {
         return UserResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
@@ -25,4 +36,19 @@ public class UserResponse {
                 .lastLoginAt(user.getLastLoginAt())
                 .build();
     }
+
+    /**
+     * from 이 내려주는 필드만으로 계산한 SHA-256 의 앞 128 비트(hex)입니다. 응답 본문을 만들지 않고 ETag 를 정할 때 씁니다.
+     * JVM 이나 노드가 달라도 같은 값이 나오도록 enum 은 이름으로 넣습니다.
+     */
+    public static String contentHash(UserSummary user) {
+        String content = user.getId() + "\n" + user.getEmail() + "\n" + user.getNickname() + "\n"
+                + (user.getStatus() != null ? user.getStatus().name() : null) + "\n" + user.getLastLoginAt();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
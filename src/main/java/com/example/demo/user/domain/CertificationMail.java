@@ -0,0 +1,93 @@
+package com.example.demo.user.domain;
+
+import com.example.demo.common.service.ClockHolder;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 아직 보내지 않은 인증 메일 한 통입니다. 유저와 같은 트랜잭션에서 저장되고 CertificationMailDispatcher 가 꺼내 보냅니다.
+ */
+@Getter
+public class CertificationMail {
+    private final Long id;
+    private final long userId;
+    private final String email;
+    private final String certificationCode;
+    private final CertificationMailStatus status;
+    private final int attempts;
+    private final long nextAttemptAt;
+    private final String lastError;
+    private final long createdAt;
+
+    @Builder
+    public CertificationMail(Long id, long userId, String email, String certificationCode, CertificationMailStatus status,
+                             int attempts, long nextAttemptAt, String lastError, long createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.email = email;
+        this.certificationCode = certificationCode;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+    }
+
+    public static CertificationMail from(User user, ClockHolder clockHolder) {
+        long now = clockHolder.millis();
+        return CertificationMail.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .certificationCode(user.getCertificationCode())
+                .status(CertificationMailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * 발송을 맡은 동안 nextAttemptAt 을 leaseUntil 로 미뤄 다른 노드가 같은 메일을 가져가지 않게 합니다.
+     * 발송 도중 노드가 죽으면 leaseUntil 이 지난 뒤 다시 발송 대상이 됩니다.
+     */
+    public CertificationMail lease(long leaseUntil) {
+        return copy(status, attempts, leaseUntil, lastError);
+    }
+
+    public CertificationMail sent() {
+        return copy(CertificationMailStatus.SENT, attempts + 1, nextAttemptAt, null);
+    }
+
+    /**
+     * 실패 횟수에 따라 initialBackoff, 2배, 4배 ... 로 다음 시도를 미루고 maxBackoff 를 넘기지 않습니다.
+     * maxAttempts 번 실패하면 더 이상 보내지 않습니다.
+     */
+    public CertificationMail failed(String error, ClockHolder clockHolder, Duration initialBackoff, Duration maxBackoff, int maxAttempts) {
+        int failedAttempts = attempts + 1;
+        if (failedAttempts >= maxAttempts) {
+            return copy(CertificationMailStatus.FAILED, failedAttempts, nextAttemptAt, error);
+        }
+
+        long backoff = initialBackoff.toMillis() << Math.min(failedAttempts - 1, 30);
+        if (backoff <= 0 || backoff > maxBackoff.toMillis()) {
+            backoff = maxBackoff.toMillis();
+        }
+        return copy(CertificationMailStatus.PENDING, failedAttempts, clockHolder.millis() + backoff, error);
+    }
+
+    private CertificationMail copy(CertificationMailStatus status, int attempts, long nextAttemptAt, String lastError) {
+        return CertificationMail.builder()
+                .id(id)
+                .userId(userId)
+                .email(email)
+                .certificationCode(certificationCode)
+                .status(status)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .lastError(lastError)
+                .createdAt(createdAt)
+                .build();
+    }
+}
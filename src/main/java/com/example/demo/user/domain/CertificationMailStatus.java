@@ -0,0 +1,5 @@
+package com.example.demo.user.domain;
+
+public enum CertificationMailStatus {
+    PENDING, SENT, FAILED
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.Clock;
+import java.util.Locale;
 import java.util.UUID;
 
 @Getter
@@ -18,9 +19,13 @@ public class User {
     private final String certificationCode;
     private final UserStatus status;
     private final Long lastLoginAt;
+    /**
+     * 닉네임이나 주소를 마지막으로 바꾼 시각입니다. 바꾼 적이 없으면 비어 있습니다.
+     */
+    private final Long modifiedAt;
 
     @Builder
-    public User(Long id, String email, String nickname, String address, String certificationCode, UserStatus status, Long lastLoginAt) {
+    public User(Long id, String email, String nickname, String address, String certificationCode, UserStatus status, Long lastLoginAt, Long modifiedAt) {
         this.id = id;
         this.email = email;
         this.nickname = nickname;
@@ -28,11 +33,12 @@ public class User {
         this.certificationCode = certificationCode;
         this.status = status;
         this.lastLoginAt = lastLoginAt;
+        this.modifiedAt = modifiedAt;
     }
 
     public static User from(UserCreate userCreate, UuidHolder uuidHolder) {
         return User.builder()
-                .email(userCreate.getEmail())
+                .email(normalizeEmail(userCreate.getEmail()))
                 .nickname(userCreate.getNickname())
                 .address(userCreate.getAddress())
                 .status(UserStatus.PENDING)
@@ -40,7 +46,14 @@ public class User {
                 .build();
     }
 
-    public User update(UserUpdate userUpdate) {
+    /**
+     * 이메일은 앞뒤 공백을 없애고 소문자로 맞춰 저장하고 조회합니다.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public User update(UserUpdate userUpdate, ClockHolder clockHolder) {
         return User.builder()
                 .id(id)
                 .email(email)
@@ -49,6 +62,7 @@ public class User {
                 .certificationCode(certificationCode)
                 .status(status)
                 .lastLoginAt(lastLoginAt)
+                .modifiedAt(clockHolder.millis())
                 .build();
     }
 
@@ -61,10 +75,11 @@ public class User {
                 .certificationCode(certificationCode)
                 .status(status)
                 .lastLoginAt(clockHolder.millis())
+                .modifiedAt(modifiedAt)
                 .build();
     }
 
-    public User certificate(String certificationCode) {
+    public User certificate(String certificationCode, ClockHolder clockHolder) {
         if (!this.certificationCode.equals(certificationCode)) {
             throw new CertificationCodeNotMatchedException();
         }
@@ -77,6 +92,7 @@ public class User {
                 .certificationCode(certificationCode)
                 .status(UserStatus.ACTIVE)
                 .lastLoginAt(lastLoginAt)
+                .modifiedAt(clockHolder.millis())
                 .build();
 
     }
@@ -0,0 +1,41 @@
+package com.example.demo.user.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class UserCreateResult {
+
+    private final int index;
+    private final String email;
+    private final User user;
+    private final String failureReason;
+
+    @Builder
+    public UserCreateResult(int index, String email, User user, String failureReason) {
+        this.index = index;
+        this.email = email;
+        this.user = user;
+        this.failureReason = failureReason;
+    }
+
+    public static UserCreateResult created(int index, User user) {
+        return UserCreateResult.builder()
+                .index(index)
+                .email(user.getEmail())
+                .user(user)
+                .build();
+    }
+
+    public static UserCreateResult failed(int index, String email, String failureReason) {
+        return UserCreateResult.builder()
+                .index(index)
+                .email(email)
+                .failureReason(failureReason)
+                .build();
+    }
+
+    public boolean isCreated() {
+        return user != null;
+    }
+}
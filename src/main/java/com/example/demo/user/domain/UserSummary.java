@@ -0,0 +1,53 @@
+package com.example.demo.user.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 다른 사람에게 보여 주는 유저 필드만 담은 읽기 모델입니다. 게시물 작성자처럼 유저 전체를 읽지 않고 그릴 때 씁니다.
+ * 주소와 인증 코드는 담지 않으므로, 일부만 채운 User 를 도메인 로직에 넘기는 일이 생기지 않습니다.
+ */
+@Getter
+public class UserSummary {
+    private final Long id;
+    private final String email;
+    private final String nickname;
+    private final UserStatus status;
+    private final Long lastLoginAt;
+    private final Long modifiedAt;
+
+    @Builder
+    public UserSummary(Long id, String email, String nickname, UserStatus status, Long lastLoginAt, Long modifiedAt) {
+        this.id = id;
+        this.email = email;
+        this.nickname = nickname;
+        this.status = status;
+        this.lastLoginAt = lastLoginAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public static UserSummary from(User user) {
+        return UserSummary.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .status(user.getStatus())
+                .lastLoginAt(user.getLastLoginAt())
+                .modifiedAt(user.getModifiedAt())
+                .build();
+    }
+
+    /**
+     * 조회 응답이 마지막으로 바뀐 시각(수정 시각과 마지막 로그인 시각 중 늦은 쪽)입니다. 둘 다 없으면 -1 입니다.
+     */
+    public long getLastModifiedAt() {
+        long lastModifiedAt = -1;
+        if (modifiedAt != null) {
+            lastModifiedAt = Math.max(lastModifiedAt, modifiedAt);
+        }
+        if (lastLoginAt != null && lastLoginAt > 0) {
+            lastModifiedAt = Math.max(lastModifiedAt, lastLoginAt);
+        }
+        return lastModifiedAt;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.user.infrastructure;
+
+import com.example.demo.user.domain.CertificationMail;
+import com.example.demo.user.domain.CertificationMailStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "certification_mail_outbox",
+    indexes = @Index(name = "idx_certification_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"))
+public class CertificationMailEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certification_mail_outbox_seq")
+    @SequenceGenerator(name = "certification_mail_outbox_seq", sequenceName = "certification_mail_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id")
+    private long userId;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "certification_code")
+    private String certificationCode;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private CertificationMailStatus status;
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private long nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private long createdAt;
+
+    public CertificationMail toModel() {
+        return CertificationMail.builder()
+                .id(id)
+                .userId(userId)
+                .email(email)
+                .certificationCode(certificationCode)
+                .status(status)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .lastError(lastError)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public static CertificationMailEntity fromModel(CertificationMail certificationMail) {
+        CertificationMailEntity certificationMailEntity = new CertificationMailEntity();
+        certificationMailEntity.id = certificationMail.getId();
+        certificationMailEntity.userId = certificationMail.getUserId();
+        certificationMailEntity.email = certificationMail.getEmail();
+        certificationMailEntity.certificationCode = certificationMail.getCertificationCode();
+        certificationMailEntity.status = certificationMail.getStatus();
+        certificationMailEntity.attempts = certificationMail.getAttempts();
+        certificationMailEntity.nextAttemptAt = certificationMail.getNextAttemptAt();
+        certificationMailEntity.lastError = truncate(certificationMail.getLastError());
+        certificationMailEntity.createdAt = certificationMail.getCreatedAt();
+        return certificationMailEntity;
+    }
+
+    private static String truncate(String lastError) {
+        return lastError == null || lastError.length() <= 1000 ? lastError : lastError.substring(0, 1000);
+    }
+}
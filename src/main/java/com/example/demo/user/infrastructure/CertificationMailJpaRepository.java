@@ -0,0 +1,27 @@
+package com.example.demo.user.infrastructure;
+
+import com.example.demo.user.domain.CertificationMailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CertificationMailJpaRepository extends JpaRepository<CertificationMailEntity, Long> {
+
+    List<CertificationMailEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+        CertificationMailStatus status, long nextAttemptAt, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update CertificationMailEntity m set m.nextAttemptAt = :leaseUntil "
+        + "where m.id = :id and m.status = :status and m.nextAttemptAt = :expectedNextAttemptAt")
+    int updateNextAttemptAt(
+        @Param("id") long id,
+        @Param("status") CertificationMailStatus status,
+        @Param("expectedNextAttemptAt") long expectedNextAttemptAt,
+        @Param("leaseUntil") long leaseUntil);
+}
@@ -0,0 +1,42 @@
+package com.example.demo.user.infrastructure;
+
+import com.example.demo.user.domain.CertificationMail;
+import com.example.demo.user.domain.CertificationMailStatus;
+import com.example.demo.user.service.port.CertificationMailRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CertificationMailRepositoryImpl implements CertificationMailRepository {
+
+    private final CertificationMailJpaRepository certificationMailJpaRepository;
+
+    @Override
+    public CertificationMail save(CertificationMail certificationMail) {
+        return certificationMailJpaRepository.save(CertificationMailEntity.fromModel(certificationMail)).toModel();
+    }
+
+    @Override
+    public List<CertificationMail> saveAll(List<CertificationMail> certificationMails) {
+        List<CertificationMailEntity> entities = certificationMails.stream().map(CertificationMailEntity::fromModel).toList();
+        return certificationMailJpaRepository.saveAll(entities).stream().map(CertificationMailEntity::toModel).toList();
+    }
+
+    @Override
+    public List<CertificationMail> findDue(long now, int limit) {
+        return certificationMailJpaRepository
+            .findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(CertificationMailStatus.PENDING, now, PageRequest.of(0, limit))
+            .stream()
+            .map(CertificationMailEntity::toModel)
+            .toList();
+    }
+
+    @Override
+    public boolean claim(long id, long expectedNextAttemptAt, long leaseUntil) {
+        return certificationMailJpaRepository.updateNextAttemptAt(id, CertificationMailStatus.PENDING, expectedNextAttemptAt, leaseUntil) == 1;
+    }
+}
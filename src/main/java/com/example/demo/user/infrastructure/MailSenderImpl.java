@@ -2,11 +2,13 @@ package com.example.demo.user.infrastructure;
 
 import com.example.demo.user.service.port.MailSender;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "user.mail.pool.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class MailSenderImpl implements MailSender {
 
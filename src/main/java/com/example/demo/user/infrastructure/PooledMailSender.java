@@ -0,0 +1,258 @@
+package com.example.demo.user.infrastructure;
+
+import com.example.demo.user.service.port.MailSender;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메일마다 SMTP 연결과 STARTTLS/인증을 새로 맺는 대신, 연결을 유지하는 전송 스레드를 connections 개 두고
+ * 큐에 쌓인 메일을 한 연결로 이어서 보냅니다. 한 연결로는 최대 messagesPerConnection 통까지만 보내고 다시 연결합니다.
+ * send 는 메일이 실제로 전송될 때까지 기다리므로 호출하는 쪽에서는 MailSenderImpl 과 똑같이 쓸 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user.mail.pool.enabled", havingValue = "true")
+public class PooledMailSender implements MailSender, DisposableBean {
+
+    private final JavaMailSenderImpl javaMailSender;
+    private final int messagesPerConnection;
+    private final Duration idleTimeout;
+    private final Duration sendTimeout;
+    private final BlockingQueue<PendingMail> queue = new LinkedBlockingQueue<>();
+    private final List<Thread> workers;
+    private volatile boolean running = true;
+
+    @Builder
+    public PooledMailSender(
+        JavaMailSenderImpl javaMailSender,
+        @Value("${user.mail.pool.connections:2}") int connections,
+        @Value("${user.mail.pool.messages-per-connection:100}") int messagesPerConnection,
+        @Value("${user.mail.pool.idle-timeout:30s}") Duration idleTimeout,
+        @Value("${user.mail.pool.send-timeout:30s}") Duration sendTimeout) {
+        this.javaMailSender = javaMailSender;
+        this.messagesPerConnection = messagesPerConnection > 0 ? messagesPerConnection : 100;
+        this.idleTimeout = idleTimeout != null ? idleTimeout : Duration.ofSeconds(30);
+        this.sendTimeout = sendTimeout != null ? sendTimeout : Duration.ofSeconds(30);
+
+        ThreadFactory threadFactory = new CustomizableThreadFactory("mail-transport-");
+        this.workers = new ArrayList<>();
+        for (int i = 0; i < Math.max(connections, 1); i++) {
+            Thread worker = threadFactory.newThread(this::work);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * sendTimeout 안에 전송 스레드가 메일을 가져가지 못하면 큐에서 빼고 MailSendException 을 던집니다.
+     * 이미 전송을 시작한 메일은 보냈는지 알 수 없으므로 결과가 나올 때까지 기다립니다.
+     * 이때 기다리는 시간은 SMTP 연결/읽기 시간 제한(mail.smtp.connectiontimeout, mail.smtp.timeout)이 정합니다.
+     * 예외는 메일이 보내지지 않았을 때만 던지므로, 호출하는 쪽은 예외가 나면 다시 보내도 중복 발송되지 않습니다.
+     */
+    @Override
+    public void send(String email, String title, String content) {
+        PendingMail pendingMail = new PendingMail(createMessage(email, title, content), new CompletableFuture<>(), new AtomicBoolean());
+        if (!running) {
+            throw new MailSendException("메일 전송 풀이 종료되었습니다.");
+        }
+        queue.add(pendingMail);
+
+        try {
+            await(pendingMail);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MailException mailException) {
+                throw mailException;
+            }
+            throw new MailSendException("메일 전송에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private void await(PendingMail pendingMail) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            try {
+                pendingMail.result().get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException | InterruptedException e) {
+                interrupted = e instanceof InterruptedException;
+                if (pendingMail.claim()) {
+                    queue.remove(pendingMail);
+                    throw new MailSendException(interrupted
+                        ? "메일 전송을 기다리다 중단되어 보내지 않고 취소했습니다."
+                        : "메일 전송이 " + sendTimeout + " 안에 시작되지 않아 보내지 않고 취소했습니다.", e);
+                }
+            }
+            while (true) {
+                try {
+                    pendingMail.result().get();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        PendingMail pendingMail;
+        while ((pendingMail = queue.poll()) != null) {
+            pendingMail.result().completeExceptionally(new MailSendException("메일 전송 풀이 종료되었습니다."));
+        }
+    }
+
+    private MimeMessage createMessage(String email, String title, String content) {
+        try {
+            MimeMessage message = javaMailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+            helper.setTo(email);
+            helper.setSubject(title);
+            helper.setText(content);
+            helper.setSentDate(new Date());
+            message.saveChanges();
+            return message;
+        } catch (MessagingException e) {
+            throw new MailPreparationException(e);
+        }
+    }
+
+    private void work() {
+        Transport transport = null;
+        int sentOnTransport = 0;
+
+        try {
+            while (running) {
+                // 한 통씩 가져갑니다. 여러 통을 미리 가져가면 다른 연결이 놀고 있어도 이 연결이 다 보낼 때까지 기다리게 됩니다.
+                PendingMail pendingMail = queue.poll(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                if (pendingMail == null) {
+                    // 오래 쉬는 연결은 서버가 먼저 끊기 쉬우므로 이쪽에서 정리합니다.
+                    close(transport);
+                    transport = null;
+                    continue;
+                }
+                if (!pendingMail.claim()) {
+                    // 기다리던 쪽이 시간 초과로 취소한 메일입니다.
+                    continue;
+                }
+                if (transport != null && sentOnTransport >= messagesPerConnection) {
+                    close(transport);
+                    transport = null;
+                }
+
+                // RuntimeException 도 이 메일만 실패로 끝내고 스레드는 계속 돕니다. 스레드가 죽으면 다시 띄우지 않으므로
+                // connections 번 실패한 뒤에는 큐를 비우는 스레드가 없어 모든 send 가 sendTimeout 까지 기다리게 됩니다.
+                boolean reused = transport != null;
+                try {
+                    if (transport == null) {
+                        transport = connect();
+                        sentOnTransport = 0;
+                    }
+                    sendMessage(transport, pendingMail.message());
+                } catch (MessagingException | RuntimeException e) {
+                    close(transport);
+                    transport = null;
+                    if (!reused) {
+                        fail(pendingMail, e);
+                        continue;
+                    }
+                    // 유지하던 연결이 서버 쪽에서 끊겼을 수 있으므로 새 연결로 한 번만 다시 보냅니다.
+                    try {
+                        transport = connect();
+                        sentOnTransport = 0;
+                        sendMessage(transport, pendingMail.message());
+                    } catch (MessagingException | RuntimeException retryException) {
+                        close(transport);
+                        transport = null;
+                        fail(pendingMail, retryException);
+                        continue;
+                    }
+                }
+                sentOnTransport++;
+                pendingMail.result().complete(null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close(transport);
+        }
+    }
+
+    private static void fail(PendingMail pendingMail, Exception cause) {
+        pendingMail.result().completeExceptionally(new MailSendException("메일 전송에 실패했습니다.", cause));
+    }
+
+    private Transport connect() throws MessagingException {
+        Session session = javaMailSender.getSession();
+        String protocol = javaMailSender.getProtocol();
+        if (protocol == null) {
+            protocol = session.getProperty("mail.transport.protocol");
+        }
+        Transport transport = session.getTransport(protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL);
+        transport.connect(javaMailSender.getHost(), javaMailSender.getPort(), javaMailSender.getUsername(), javaMailSender.getPassword());
+        return transport;
+    }
+
+    private static void sendMessage(Transport transport, MimeMessage message) throws MessagingException {
+        transport.sendMessage(message, message.getAllRecipients());
+    }
+
+    private static void close(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException | RuntimeException e) {
+            log.debug("SMTP 연결을 닫는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * claimed 는 전송 스레드(보내기 시작)와 기다리는 쪽(취소) 중 먼저 가져간 쪽만 true 로 바꿉니다.
+     */
+    private record PendingMail(MimeMessage message, CompletableFuture<Void> result, AtomicBoolean claimed) {
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
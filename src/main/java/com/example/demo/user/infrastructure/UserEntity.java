@@ -9,17 +9,24 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    uniqueConstraints = @UniqueConstraint(name = "uk_users_email", columnNames = "email"),
+    indexes = @Index(name = "idx_users_email_status", columnList = "email, status"))
 public class UserEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "email")
@@ -41,6 +48,9 @@ public class UserEntity {
     @Column(name = "last_login_at")
     private Long lastLoginAt;
 
+    @Column(name = "modified_at")
+    private Long modifiedAt;
+
     public User toModel() {
         return User.builder()
                 .id(id)
@@ -50,6 +60,7 @@ public class UserEntity {
                 .certificationCode(certificationCode)
                 .status(status)
                 .lastLoginAt(lastLoginAt)
+                .modifiedAt(modifiedAt)
                 .build();
     }
 
@@ -62,6 +73,7 @@ public class UserEntity {
         userEntity.certificationCode = user.getCertificationCode();
         userEntity.status = user.getStatus();
         userEntity.lastLoginAt = user.getLastLoginAt();
+        userEntity.modifiedAt = user.getModifiedAt();
         return userEntity;
     }
 
@@ -5,8 +5,11 @@ import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserStatus;
 import com.example.demo.user.service.port.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +17,7 @@ import java.util.Optional;
 public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository userJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<User> findById(long id) {
@@ -40,5 +44,28 @@ public class UserRepositoryImpl implements UserRepository {
         return userJpaRepository.save(UserEntity.fromModel(user)).toModel();
     }
 
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<UserEntity> userEntities = users.stream().map(UserEntity::fromModel).toList();
+        return userJpaRepository.saveAll(userEntities).stream().map(UserEntity::toModel).toList();
+    }
+
+    @Override
+    public void updateLastLoginAt(Map<Long, Long> lastLoginAtByUserId) {
+        List<Object[]> batchArgs = lastLoginAtByUserId.entrySet().stream()
+            .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "update users set last_login_at = ? where id = ? and (last_login_at is null or last_login_at < ?)",
+            batchArgs);
+    }
+
+    @Override
+    public boolean activate(long id, String certificationCode, long modifiedAt) {
+        return jdbcTemplate.update(
+            "update users set status = 'ACTIVE', modified_at = ? where id = ? and certification_code = ? and status = 'PENDING'",
+            modifiedAt, id, certificationCode) == 1;
+    }
+
 
 }
@@ -0,0 +1,128 @@
+package com.example.demo.user.service;
+
+import com.example.demo.common.service.ClockHolder;
+import com.example.demo.user.domain.CertificationMail;
+import com.example.demo.user.service.port.CertificationMailRepository;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * certification_mail_outbox 에 쌓인 인증 메일을 주기적으로 꺼내 작은 스레드 풀에서 보냅니다.
+ * 메일은 유저와 같은 트랜잭션에서 저장되므로 가입 응답은 SMTP 지연과 무관하고, 노드가 죽어도 메일이 사라지지 않습니다.
+ * 여러 노드가 함께 돌더라도 claim 에 성공한 노드만 보내며, 발송 중 노드가 죽으면 lease 가 끝난 뒤 다시 보냅니다.
+ */
+@Slf4j
+@Service
+public class CertificationMailDispatcher implements DisposableBean {
+
+    private final CertificationService certificationService;
+    private final CertificationMailRepository certificationMailRepository;
+    private final ClockHolder clockHolder;
+    private final Executor executor;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    @Autowired
+    public CertificationMailDispatcher(
+        CertificationService certificationService,
+        CertificationMailRepository certificationMailRepository,
+        ClockHolder clockHolder,
+        @Value("${user.certification-mail.pool-size:2}") int poolSize,
+        @Value("${user.certification-mail.batch-size:100}") int batchSize,
+        @Value("${user.certification-mail.lease:5m}") Duration lease,
+        @Value("${user.certification-mail.initial-backoff:10s}") Duration initialBackoff,
+        @Value("${user.certification-mail.max-backoff:1h}") Duration maxBackoff,
+        @Value("${user.certification-mail.max-attempts:10}") int maxAttempts) {
+        this(certificationService, certificationMailRepository, clockHolder,
+            Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("certification-mail-")),
+            batchSize, lease, initialBackoff, maxBackoff, maxAttempts);
+    }
+
+    @Builder
+    public CertificationMailDispatcher(
+        CertificationService certificationService,
+        CertificationMailRepository certificationMailRepository,
+        ClockHolder clockHolder,
+        Executor executor,
+        int batchSize,
+        Duration lease,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        int maxAttempts) {
+        this.certificationService = certificationService;
+        this.certificationMailRepository = certificationMailRepository;
+        this.clockHolder = clockHolder;
+        this.executor = executor;
+        this.batchSize = batchSize > 0 ? batchSize : 100;
+        this.lease = lease != null ? lease : Duration.ofMinutes(5);
+        this.initialBackoff = initialBackoff != null ? initialBackoff : Duration.ofSeconds(10);
+        this.maxBackoff = maxBackoff != null ? maxBackoff : Duration.ofHours(1);
+        this.maxAttempts = maxAttempts > 0 ? maxAttempts : 10;
+    }
+
+    /**
+     * 보낼 차례가 된 메일을 batchSize 건씩 가져와 모두 보낼 때까지 반복하고, 처리한 건수를 돌려줍니다.
+     * 한 묶음을 다 보낸 뒤에 다음 묶음을 가져오므로 lease 는 한 묶음을 보내는 시간만 넘으면 됩니다.
+     * 그동안 스케줄러 스레드 하나를 붙잡으므로 다른 @Scheduled 작업은 spring.task.scheduling.pool.size 의 나머지 스레드에서 돕니다.
+     */
+    @Scheduled(fixedDelayString = "${user.certification-mail.poll-interval-ms:1000}")
+    public int drain() {
+        int processed = 0;
+        List<CertificationMail> due;
+        do {
+            long now = clockHolder.millis();
+            due = certificationMailRepository.findDue(now, batchSize);
+
+            List<CompletableFuture<Void>> sending = new ArrayList<>(due.size());
+            for (CertificationMail certificationMail : due) {
+                CertificationMail leased = certificationMail.lease(now + lease.toMillis());
+                if (!certificationMailRepository.claim(certificationMail.getId(), certificationMail.getNextAttemptAt(), leased.getNextAttemptAt())) {
+                    continue;
+                }
+                sending.add(CompletableFuture.runAsync(() -> send(leased), executor));
+            }
+            CompletableFuture.allOf(sending.toArray(new CompletableFuture[0])).join();
+            processed += sending.size();
+        } while (due.size() == batchSize);
+
+        return processed;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            executorService.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void send(CertificationMail certificationMail) {
+        try {
+            certificationService.send(certificationMail.getEmail(), certificationMail.getUserId(), certificationMail.getCertificationCode());
+            certificationMailRepository.save(certificationMail.sent());
+        } catch (RuntimeException e) {
+            CertificationMail failed = certificationMail.failed(e.toString(), clockHolder, initialBackoff, maxBackoff, maxAttempts);
+            log.warn("인증 메일 발송에 실패했습니다. userId={}, attempts={}, status={}",
+                certificationMail.getUserId(), failed.getAttempts(), failed.getStatus(), e);
+            certificationMailRepository.save(failed);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.demo.user.service;
+
+import com.example.demo.user.domain.User;
+import com.example.demo.user.service.port.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Builder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 시각(lastLoginAt)을 요청마다 저장하지 않고 메모리에 모아 두었다가 주기적으로 한 번에 반영합니다.
+ * 유저별로 가장 최근 값만 유지하므로 같은 유저의 연속 로그인은 하나의 UPDATE 로 합쳐집니다.
+ * 쌓인 양이 maxPending 을 넘으면 요청 스레드가 아니라 flushExecutor(스케줄러 스레드)에서 앞당겨 비웁니다.
+ * 남은 값은 종료할 때 stop 에서 반영합니다. @PreDestroy 는 DataSource 가 먼저 닫힐 수 있어 빈을 없애기 전에 도는 SmartLifecycle 을 씁니다.
+ */
+@Service
+public class LoginActivityRecorder implements MeterBinder, SmartLifecycle {
+
+    private final UserRepository userRepository;
+    private final int maxPending;
+    private final Executor flushExecutor;
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private volatile boolean running;
+
+    @Builder
+    public LoginActivityRecorder(
+        UserRepository userRepository,
+        @Value("${user.login-activity.max-pending:10000}") int maxPending,
+        @Qualifier("taskScheduler") Executor flushExecutor) {
+        this.userRepository = userRepository;
+        this.maxPending = maxPending;
+        this.flushExecutor = flushExecutor != null ? flushExecutor : Runnable::run;
+    }
+
+    public void record(long userId, long lastLoginAt) {
+        recorded.increment();
+        pending.merge(userId, lastLoginAt, (current, next) -> {
+            coalesced.increment();
+            return Math.max(current, next);
+        });
+
+        // 쌓인 양이 한도를 넘으면 다음 주기를 기다리지 않고 비우도록 한 번만 맡깁니다.
+        if (maxPending > 0 && pending.size() >= maxPending && earlyFlushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    try {
+                        flush();
+                    } finally {
+                        earlyFlushRequested.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 stop 의 flush 가 남은 값을 반영합니다.
+                earlyFlushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 로그인 시각이 있다면 그 값을 덮어쓴 User 를 돌려줍니다.
+     */
+    public User merge(User user) {
+        Long lastLoginAt = pending.get(user.getId());
+        if (lastLoginAt == null || (user.getLastLoginAt() != null && user.getLastLoginAt() >= lastLoginAt)) {
+            return user;
+        }
+        return user.login(() -> lastLoginAt);
+    }
+
+    @Scheduled(fixedDelayString = "${user.login-activity.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(DEFAULT_PHASE - 2048)가 요청을 그만 받은 뒤에 멈추도록 그보다 낮은 단계에 둡니다.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("user.login.activity.recorded", recorded, LongAdder::sum)
+            .description("기록된 로그인 횟수")
+            .register(registry);
+        FunctionCounter.builder("user.login.activity.coalesced", coalesced, LongAdder::sum)
+            .description("다른 로그인과 합쳐져 생략된 UPDATE 수")
+            .register(registry);
+        FunctionCounter.builder("user.login.activity.flushed", flushed, LongAdder::sum)
+            .description("실제로 반영된 UPDATE 수")
+            .register(registry);
+        Gauge.builder("user.login.activity.pending", pending, Map::size)
+            .description("반영을 기다리는 유저 수")
+            .register(registry);
+    }
+
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 반영이 끝날 때까지 값을 남겨 두어야 그 사이의 조회도 최신 시각을 볼 수 있습니다.
+        Map<Long, Long> batch = new HashMap<>(pending);
+        userRepository.updateLastLoginAt(batch);
+        flushed.add(batch.size());
+        // 반영하는 동안 더 최근 시각이 들어온 유저는 남겨 두어 다음 flush 에서 반영합니다.
+        batch.forEach((userId, lastLoginAt) -> pending.remove(userId, lastLoginAt));
+    }
+}
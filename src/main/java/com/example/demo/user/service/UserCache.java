@@ -0,0 +1,133 @@
+package com.example.demo.user.service;
+
+import com.example.demo.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Builder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 유저 도메인 객체를 id 기준으로 보관하는 프로세스 내 캐시입니다.
+ * 이메일 조회는 email → id 보조 인덱스를 거쳐 같은 항목을 사용합니다.
+ * 트랜잭션 안에서 put, evict 하면 커밋된 뒤에 반영하므로, 롤백된 유저나 커밋되지 않은 값이 캐시에 남지 않습니다.
+ */
+@Service
+public class UserCache implements MeterBinder {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final boolean enabled;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> userIdsByEmail;
+
+    @Autowired
+    public UserCache(
+        @Value("${user.cache.enabled:true}") boolean enabled,
+        @Value("${user.cache.maximum-size:100000}") long maximumSize,
+        @Value("${user.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this(enabled, maximumSize, expireAfterWrite, null);
+    }
+
+    /**
+     * ticker 가 null 이면 시스템 시계를 씁니다. 테스트에서 만료 시각을 당겨 볼 때 넘깁니다.
+     */
+    @Builder
+    public UserCache(boolean enabled, long maximumSize, Duration expireAfterWrite, Ticker ticker) {
+        this.enabled = enabled;
+        this.usersById = newCache(maximumSize, expireAfterWrite, ticker);
+        this.userIdsByEmail = newCache(maximumSize, expireAfterWrite, ticker);
+    }
+
+    public Optional<User> getById(long id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(usersById.getIfPresent(id));
+    }
+
+    public Optional<User> getByEmail(String email) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Long id = userIdsByEmail.getIfPresent(email);
+        if (id == null) {
+            return Optional.empty();
+        }
+        // 인덱스만 남고 본 항목이 만료되었거나 이메일이 바뀐 경우는 없는 것으로 봅니다.
+        return getById(id).filter(user -> email.equals(user.getEmail()));
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 올리고, 롤백되면 올리지 않습니다. 받은 user 를 그대로 돌려줍니다.
+     */
+    public User put(User user) {
+        if (enabled && user.getId() != null) {
+            afterCommit(() -> {
+                User previous = usersById.asMap().put(user.getId(), user);
+                if (previous != null && previous.getEmail() != null && !previous.getEmail().equals(user.getEmail())) {
+                    userIdsByEmail.asMap().remove(previous.getEmail(), user.getId());
+                }
+                userIdsByEmail.put(user.getEmail(), user.getId());
+            });
+        }
+        return user;
+    }
+
+    /**
+     * id 항목과 그 이메일의 보조 인덱스를 함께 지웁니다. 트랜잭션 안이면 커밋된 뒤에 지웁니다.
+     */
+    public void evict(long id) {
+        afterCommit(() -> {
+            User removed = usersById.asMap().remove(id);
+            if (removed != null && removed.getEmail() != null) {
+                userIdsByEmail.asMap().remove(removed.getEmail(), id);
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        return usersById.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, usersById, "users");
+        CaffeineCacheMetrics.monitor(registry, userIdsByEmail, "userIdsByEmail");
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration expireAfterWrite, Ticker ticker) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize > 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE)
+            .expireAfterWrite(expireAfterWrite != null ? expireAfterWrite : DEFAULT_EXPIRE_AFTER_WRITE)
+            .ticker(ticker != null ? ticker : Ticker.systemTicker())
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+    }
+}
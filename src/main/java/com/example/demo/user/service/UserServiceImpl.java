@@ -4,32 +4,56 @@ import com.example.demo.common.domain.exception.ResourceNotFoundException;
 import com.example.demo.common.service.ClockHolder;
 import com.example.demo.common.service.UuidHolder;
 import com.example.demo.user.controller.port.UserService;
+import com.example.demo.user.domain.CertificationMail;
 import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserCreate;
+import com.example.demo.user.domain.UserCreateResult;
 import com.example.demo.user.domain.UserStatus;
 import com.example.demo.user.domain.UserUpdate;
+import com.example.demo.user.service.port.CertificationMailRepository;
 import com.example.demo.user.service.port.UserRepository;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @Builder
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
+
+    private static final int CREATE_ALL_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
-    private final CertificationService certificationService;
+    private final CertificationMailRepository certificationMailRepository;
+    private final TransactionOperations transactionOperations;
     private final UuidHolder uuidHolder;
     private final ClockHolder clockHolder;
+    private final LoginActivityRecorder loginActivityRecorder;
+    private final UserCache userCache;
 
     public User getByEmail(String email) {
-        return userRepository.findByEmailAndStatus(email, UserStatus.ACTIVE)
+        String normalizedEmail = User.normalizeEmail(email);
+        return userCache.getByEmail(normalizedEmail)
+            .filter(user -> user.getStatus() == UserStatus.ACTIVE)
+            .or(() -> userRepository.findByEmailAndStatus(normalizedEmail, UserStatus.ACTIVE).map(userCache::put))
+            .map(loginActivityRecorder::merge)
             .orElseThrow(() -> new ResourceNotFoundException("Users", email));
     }
 
     public User getById(long id) {
-        return userRepository.findByIdAndStatus(id, UserStatus.ACTIVE)
+        return userCache.getById(id)
+            .filter(user -> user.getStatus() == UserStatus.ACTIVE)
+            .or(() -> userRepository.findByIdAndStatus(id, UserStatus.ACTIVE).map(userCache::put))
+            .map(loginActivityRecorder::merge)
             .orElseThrow(() -> new ResourceNotFoundException("Users", id));
     }
 
@@ -37,31 +61,113 @@ public class UserServiceImpl implements UserService {
     public User create(UserCreate userCreate) {
         User user = User.from(userCreate, uuidHolder);
         user = userRepository.save(user);
-        certificationService.send(userCreate.getEmail(), user.getId(), user.getCertificationCode());
+        // 메일은 같은 트랜잭션에서 outbox 에 남기고 CertificationMailDispatcher 가 커밋 이후에 보냅니다.
+        certificationMailRepository.save(CertificationMail.from(user, clockHolder));
+        userCache.put(user);
 
         return user;
     }
 
+    /**
+     * 여러 유저를 CREATE_ALL_CHUNK_SIZE 건씩 한 트랜잭션으로 저장하고 항목별 결과를 돌려줍니다.
+     * 인증 메일은 유저와 같은 트랜잭션에서 outbox 에 저장됩니다.
+     */
+    public List<UserCreateResult> createAll(List<UserCreate> userCreates) {
+        UserCreateResult[] results = new UserCreateResult[userCreates.size()];
+        Set<String> emails = new HashSet<>();
+        List<Integer> chunkIndexes = new ArrayList<>(CREATE_ALL_CHUNK_SIZE);
+        List<User> chunk = new ArrayList<>(CREATE_ALL_CHUNK_SIZE);
+
+        for (int i = 0; i < userCreates.size(); i++) {
+            User user = User.from(userCreates.get(i), uuidHolder);
+            if (user.getEmail() == null || user.getEmail().isEmpty()) {
+                results[i] = UserCreateResult.failed(i, user.getEmail(), "이메일이 비어 있습니다.");
+                continue;
+            }
+            if (!emails.add(user.getEmail())) {
+                results[i] = UserCreateResult.failed(i, user.getEmail(), "요청 안에서 이메일이 중복되었습니다.");
+                continue;
+            }
+
+            chunkIndexes.add(i);
+            chunk.add(user);
+            if (chunk.size() == CREATE_ALL_CHUNK_SIZE) {
+                saveChunk(chunkIndexes, chunk, results);
+                chunkIndexes.clear();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunkIndexes, chunk, results);
+        }
+
+        return Arrays.asList(results);
+    }
+
     @Transactional
     public User update(long id, UserUpdate userUpdate) {
         User user = getById(id);
-        user = user.update(userUpdate);
+        user = user.update(userUpdate, clockHolder);
         user = userRepository.save(user);
-        return user;
+        return userCache.put(user);
+    }
+
+    private void saveChunk(List<Integer> indexes, List<User> users, UserCreateResult[] results) {
+        List<User> saved;
+        try {
+            saved = transactionOperations.execute(status -> saveWithCertificationMails(users));
+        } catch (DataAccessException e) {
+            // 한 건이라도 실패하면 청크 전체가 롤백되므로 한 건씩 다시 저장해 실패한 항목만 골라냅니다.
+            saved = new ArrayList<>(users.size());
+            for (User user : users) {
+                try {
+                    saved.add(transactionOperations.execute(status -> saveWithCertificationMails(List.of(user)).get(0)));
+                } catch (DataAccessException ex) {
+                    saved.add(null);
+                }
+            }
+        }
+
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            User user = saved.get(i);
+            if (user == null) {
+                results[index] = UserCreateResult.failed(index, users.get(i).getEmail(), "이미 가입된 이메일이거나 저장할 수 없는 값입니다.");
+                continue;
+            }
+            results[index] = UserCreateResult.created(index, userCache.put(user));
+        }
+    }
+
+    private List<User> saveWithCertificationMails(List<User> users) {
+        List<User> saved = userRepository.saveAll(users);
+        certificationMailRepository.saveAll(saved.stream().map(user -> CertificationMail.from(user, clockHolder)).toList());
+        return saved;
     }
 
-    @Transactional
     public void login(long id) {
         User user = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Users", id));
+        login(user);
+    }
+
+    public User login(User user) {
         user = user.login(clockHolder);
-        userRepository.save(user);
+        loginActivityRecorder.record(user.getId(), user.getLastLoginAt());
+        return userCache.put(user);
     }
 
-    @Transactional
+    /**
+     * 조건부 UPDATE 한 번으로 인증합니다. 반영되지 않았을 때만 유저를 읽어 없는 유저와 코드 불일치를 가리고,
+     * 코드가 맞는데 이미 PENDING 이 아니라면 다시 누른 링크로 보고 그대로 둡니다.
+     */
     public void verifyEmail(long id, String certificationCode) {
-        User user = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Users", id));
-        user = user.certificate(certificationCode);
-        userRepository.save(user);
+        if (userRepository.activate(id, certificationCode, clockHolder.millis())) {
+            userCache.evict(id);
+            return;
+        }
+        userRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Users", id))
+            .certificate(certificationCode, clockHolder);
     }
 
 
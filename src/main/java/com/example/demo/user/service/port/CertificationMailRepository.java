@@ -0,0 +1,23 @@
+package com.example.demo.user.service.port;
+
+import com.example.demo.user.domain.CertificationMail;
+
+import java.util.List;
+
+public interface CertificationMailRepository {
+
+    CertificationMail save(CertificationMail certificationMail);
+
+    List<CertificationMail> saveAll(List<CertificationMail> certificationMails);
+
+    /**
+     * PENDING 상태이고 nextAttemptAt 이 now 이전인 메일을 오래된 순으로 limit 건 가져옵니다.
+     */
+    List<CertificationMail> findDue(long now, int limit);
+
+    /**
+     * nextAttemptAt 이 아직 expectedNextAttemptAt 일 때만 leaseUntil 로 바꿉니다.
+     * 다른 노드가 먼저 가져갔다면 false 를 돌려줍니다.
+     */
+    boolean claim(long id, long expectedNextAttemptAt, long leaseUntil);
+}
@@ -4,6 +4,8 @@ import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserStatus;
 import com.example.demo.user.infrastructure.UserEntity;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -13,7 +15,17 @@ public interface UserRepository {
 
     User save(User user);
 
+    List<User> saveAll(List<User> users);
+
     Optional<User> findById(long id);
 
     User getById(long id);
+
+    void updateLastLoginAt(Map<Long, Long> lastLoginAtByUserId);
+
+    /**
+     * id 와 인증 코드가 일치하는 PENDING 유저를 한 번의 UPDATE 로 ACTIVE 로 바꾸고 수정 시각을 modifiedAt 으로 남깁니다.
+     * 바뀐 행이 없으면 false 를 돌려줍니다.
+     */
+    boolean activate(long id, String certificationCode, long modifiedAt);
 }
@@ -0,0 +1,61 @@
+package com.example.demo.common.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BufferedSecureRandomUuidHolderTest {
+
+    @Test
+    void 코드는_128_비트를_담은_22_자_URL_safe_Base64_이다() {
+        // given
+        BufferedSecureRandomUuidHolder uuidHolder = BufferedSecureRandomUuidHolder.builder()
+                .stripes(1)
+                .codesPerRefill(4)
+                .build();
+
+        // when
+        String code = uuidHolder.random();
+
+        // then
+        assertThat(code).hasSize(22).matches("[A-Za-z0-9_-]+");
+        assertThat(Base64.getUrlDecoder().decode(code)).hasSize(16);
+    }
+
+    @Test
+    void 버퍼를_여러_번_다시_채우며_여러_스레드가_동시에_만들어도_코드가_겹치지_않는다() throws Exception {
+        // given
+        BufferedSecureRandomUuidHolder uuidHolder = BufferedSecureRandomUuidHolder.builder()
+                .stripes(2)
+                .codesPerRefill(8)
+                .build();
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> executorService.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        codes.add(uuidHolder.random());
+                    }
+                }))
+                .<Future<?>>map(future -> future)
+                .toList();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(codes).hasSize(80_000);
+    }
+}
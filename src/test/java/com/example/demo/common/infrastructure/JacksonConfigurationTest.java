@@ -0,0 +1,132 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.post.controller.response.PostResponse;
+import com.example.demo.post.domain.Post;
+import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserStatus;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonConfigurationTest {
+
+    private final JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+
+    @Test
+    void Blackbird_와_타입별_writer_로_쓴_응답은_기본_ObjectMapper_의_결과와_같다() throws IOException {
+        // given
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(jacksonConfiguration.blackbirdModule())
+                .build();
+        JacksonConfiguration.TypedWriterHttpMessageConverter converter =
+                (JacksonConfiguration.TypedWriterHttpMessageConverter) jacksonConfiguration.mappingJackson2HttpMessageConverter(objectMapper);
+        PostResponse postResponse = PostResponse.from(post());
+
+        // when
+        MockHttpOutputMessage first = new MockHttpOutputMessage();
+        MockHttpOutputMessage second = new MockHttpOutputMessage();
+        converter.write(postResponse, PostResponse.class, MediaType.APPLICATION_JSON, first);
+        converter.write(postResponse, PostResponse.class, MediaType.APPLICATION_JSON, second);
+
+        // then
+        String expected = Jackson2ObjectMapperBuilder.json().build().writeValueAsString(postResponse);
+        assertThat(first.getBodyAsString()).isEqualTo(expected);
+        assertThat(second.getBodyAsString()).isEqualTo(expected);
+    }
+
+    @Test
+    void 같은_타입에는_같은_writer_를_재사용하고_view_가_붙은_writer_는_바꾸지_않는다() {
+        // given
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        JacksonConfiguration.TypedWriterHttpMessageConverter converter =
+                new JacksonConfiguration.TypedWriterHttpMessageConverter(objectMapper);
+        JavaType javaType = objectMapper.constructType(PostResponse.class);
+        ObjectWriter viewWriter = objectMapper.writerWithView(Object.class);
+
+        // when
+        ObjectWriter first = converter.customizeWriter(objectMapper.writer(), javaType, MediaType.APPLICATION_JSON);
+        ObjectWriter second = converter.customizeWriter(objectMapper.writer(), javaType, MediaType.APPLICATION_JSON);
+        ObjectWriter withView = converter.customizeWriter(viewWriter, javaType, MediaType.APPLICATION_JSON);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(withView).isSameAs(viewWriter);
+    }
+
+    @Test
+    void 선언_타입이_상위_클래스여도_실제_클래스의_필드를_모두_쓴다() throws IOException {
+        // given
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        JacksonConfiguration.TypedWriterHttpMessageConverter converter =
+                new JacksonConfiguration.TypedWriterHttpMessageConverter(objectMapper);
+
+        // when
+        MockHttpOutputMessage child = new MockHttpOutputMessage();
+        MockHttpOutputMessage parent = new MockHttpOutputMessage();
+        converter.write(new ChildResponse(), ParentResponse.class, MediaType.APPLICATION_JSON, child);
+        converter.write(new ParentResponse(), ParentResponse.class, MediaType.APPLICATION_JSON, parent);
+
+        // then
+        assertThat(child.getBodyAsString()).isEqualTo("{\"extra\":\"child\",\"name\":\"parent\"}");
+        assertThat(parent.getBodyAsString()).isEqualTo("{\"name\":\"parent\"}");
+    }
+
+    @Test
+    void 컨테이너_타입은_선언_타입의_writer_를_쓴다() throws IOException {
+        // given
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        JacksonConfiguration.TypedWriterHttpMessageConverter converter =
+                new JacksonConfiguration.TypedWriterHttpMessageConverter(objectMapper);
+        Type type = new TypeReference<List<ParentResponse>>() {}.getType();
+
+        // when
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(List.of(new ChildResponse()), type, MediaType.APPLICATION_JSON, output);
+
+        // then
+        assertThat(output.getBodyAsString()).isEqualTo("[{\"extra\":\"child\",\"name\":\"parent\"}]");
+    }
+
+    public static class ParentResponse {
+
+        public String getName() {
+            return "parent";
+        }
+    }
+
+    public static class ChildResponse extends ParentResponse {
+
+        public String getExtra() {
+            return "child";
+        }
+    }
+
+    private static Post post() {
+        return Post.builder()
+                .id(1L)
+                .content("helloworld")
+                .createdAt(1678530673958L)
+                .modifiedAt(0L)
+                .version(0L)
+                .viewCount(3L)
+                .writer(User.builder()
+                        .id(1L)
+                        .email("kok202@naver.com")
+                        .nickname("kok202")
+                        .status(UserStatus.ACTIVE)
+                        .lastLoginAt(0L)
+                        .build())
+                .build();
+    }
+}
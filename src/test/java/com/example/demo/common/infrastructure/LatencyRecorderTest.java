@@ -0,0 +1,96 @@
+package com.example.demo.common.infrastructure;
+
+import com.example.demo.common.domain.EndpointLatency;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyRecorderTest {
+
+    @Test
+    void 구간을_넘긴_기록만_백분위와_최댓값으로_보고된다() throws Exception {
+        // given
+        LatencyRecorder latencyRecorder = LatencyRecorder.builder()
+                .windows(6)
+                .build();
+        Method handler = Object.class.getMethod("toString");
+        for (long micros = 1; micros <= 1000; micros++) {
+            latencyRecorder.record(handler, "Object.toString", "GET /", TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        // when
+        List<EndpointLatency> beforeRotate = latencyRecorder.snapshot();
+        latencyRecorder.rotate();
+        List<EndpointLatency> result = latencyRecorder.snapshot();
+
+        // then
+        assertThat(beforeRotate.get(0).getCount()).isZero();
+        assertThat(result).hasSize(1);
+        EndpointLatency latency = result.get(0);
+        assertThat(latency.getHandler()).isEqualTo("Object.toString");
+        assertThat(latency.getPattern()).isEqualTo("GET /");
+        assertThat(latency.getCount()).isEqualTo(1000);
+        assertThat(latency.getP50()).isCloseTo(500, within(1L));
+        assertThat(latency.getP99()).isCloseTo(990, within(1L));
+        assertThat(latency.getP9999()).isCloseTo(1000, within(1L));
+        assertThat(latency.getMax()).isCloseTo(1000, within(1L));
+    }
+
+    @Test
+    void 구간이_windows_개를_넘으면_가장_오래된_구간부터_빠진다() throws Exception {
+        // given
+        LatencyRecorder latencyRecorder = LatencyRecorder.builder()
+                .windows(2)
+                .build();
+        Method handler = Object.class.getMethod("toString");
+        latencyRecorder.record(handler, "Object.toString", "GET /", TimeUnit.MILLISECONDS.toNanos(50));
+        latencyRecorder.rotate();
+        latencyRecorder.record(handler, "Object.toString", "GET /", TimeUnit.MICROSECONDS.toNanos(10));
+        latencyRecorder.rotate();
+
+        // when
+        latencyRecorder.record(handler, "Object.toString", "GET /", TimeUnit.MICROSECONDS.toNanos(20));
+        latencyRecorder.rotate();
+
+        // then
+        EndpointLatency latency = latencyRecorder.snapshot().get(0);
+        assertThat(latency.getCount()).isEqualTo(2);
+        assertThat(latency.getMax()).isCloseTo(20, within(1L));
+    }
+
+    @Test
+    void 이름과_패턴은_handler_마다_처음_한_번만_만들고_null_이면_그_handler_는_기록하지_않는다() throws Exception {
+        // given
+        LatencyRecorder latencyRecorder = LatencyRecorder.builder()
+                .windows(6)
+                .build();
+        Method controller = Object.class.getMethod("toString");
+        Method resource = Object.class.getMethod("hashCode");
+        AtomicInteger namings = new AtomicInteger();
+        BiFunction<Method, String, LatencyRecorder.EndpointName> naming = (method, pattern) -> {
+            namings.incrementAndGet();
+            return method.equals(controller) ? new LatencyRecorder.EndpointName("Object." + method.getName(), pattern) : null;
+        };
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            latencyRecorder.record(controller, TimeUnit.MICROSECONDS.toNanos(10), "GET /", naming);
+            latencyRecorder.record(resource, TimeUnit.MICROSECONDS.toNanos(10), "GET /static", naming);
+        }
+        latencyRecorder.rotate();
+
+        // then
+        assertThat(namings.get()).isEqualTo(2);
+        List<EndpointLatency> result = latencyRecorder.snapshot();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getHandler()).isEqualTo("Object.toString");
+        assertThat(result.get(0).getCount()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.common.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VirtualThreadConfigurationTest {
+
+    static boolean isJava21OrLater() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Test
+    @EnabledIf("isJava21OrLater")
+    void JDK_21_이상에서는_이름이_붙은_가상_스레드를_만든다() throws Exception {
+        // given
+        ThreadFactory threadFactory = VirtualThreadConfiguration.virtualThreadFactory("test-");
+        CompletableFuture<String> threadName = new CompletableFuture<>();
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+
+        // when
+        Thread thread = threadFactory.newThread(() -> {
+            threadName.complete(Thread.currentThread().getName());
+            try {
+                virtual.complete((Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+            } catch (ReflectiveOperationException e) {
+                virtual.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        // then
+        assertThat(threadName.get()).isEqualTo("test-0");
+        assertThat(virtual.get()).isTrue();
+    }
+
+    @Test
+    @DisabledIf("isJava21OrLater")
+    void JDK_21_미만에서_가상_스레드를_켜면_기동_시점에_실패한다() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> VirtualThreadConfiguration.virtualThreadFactory("test-"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JDK 21");
+    }
+}
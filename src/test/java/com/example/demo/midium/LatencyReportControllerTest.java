@@ -0,0 +1,51 @@
+package com.example.demo.midium;
+
+import com.example.demo.common.infrastructure.LatencyRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+public class LatencyReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LatencyRecorder latencyRecorder;
+
+    @Test
+    void 컨트롤러_핸들러별_응답_시간이_매핑_패턴과_함께_보고된다() throws Exception {
+        // given
+        mockMvc.perform(get("/health_check.html")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/12345")).andExpect(status().isNotFound());
+        latencyRecorder.rotate();
+
+        // when
+        // then
+        mockMvc.perform(get("/internal/latency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.handler == 'HealthCheckController.healthCheck')].pattern")
+                        .value(contains("GET /health_check.html")))
+                .andExpect(jsonPath("$[?(@.handler == 'PostController.getPostById')].pattern")
+                        .value(contains("GET /api/posts/{id}")))
+                .andExpect(jsonPath("$[?(@.handler == 'PostController.getPostById')].count")
+                        .value(everyItem(greaterThanOrEqualTo(1))))
+                .andExpect(jsonPath("$[?(@.handler == 'PostController.getPostById')].max")
+                        .value(not(empty())));
+    }
+}
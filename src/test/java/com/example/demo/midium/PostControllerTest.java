@@ -1,26 +1,43 @@
 package com.example.demo.midium;
 
+import static com.example.demo.midium.QueryCountMatchers.queryCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.demo.post.domain.PostUpdate;
+import com.example.demo.post.service.PostSearchIndexRebuilder;
+import com.example.demo.post.service.PostViewCounter;
+import com.example.demo.post.service.port.PostSearchIndex;
+import com.jayway.jsonpath.JsonPath;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @AutoConfigureTestDatabase
+@TestPropertySource(properties = {"query-count.enabled=true", "post.update.version-required=true"})
 @SqlGroup({
         @Sql(value = "/sql/post-controller-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
         @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
@@ -29,8 +46,20 @@ public class PostControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private PostSearchIndexRebuilder postSearchIndexRebuilder;
+    @Autowired
+    private PostViewCounter postViewCounter;
+    @Autowired
+    private PostSearchIndex postSearchIndex;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @AfterEach
+    void flushViewCounts() {
+        // 데이터를 지우기 전에 반영해 두어야 쌓인 조회수가 다음 테스트의 같은 id 게시물에 더해지지 않습니다.
+        postViewCounter.flush();
+    }
+
     @Test
     void 사용자는_게시물을_단건_조회_할_수_있다() throws Exception {
         // given
@@ -45,6 +74,189 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.writer.nickname").value("kok202"));
     }
 
+    @Test
+    void 사용자는_바뀌지_않은_게시물을_ETag_로_다시_조회하면_304_응답을_받고_수정된_뒤에는_새_본문을_받는다() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        // then
+        assertThat(eTag).startsWith("W/");
+        mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        PostUpdate postUpdate = PostUpdate.builder()
+                .content("foobar")
+                .version(0L)
+                .build();
+        mockMvc.perform(put("/api/posts/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(postUpdate)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("foobar"));
+    }
+
+    @Test
+    void 사용자가_약한_ETag_를_If_Match_로_보내면_412_응답을_받고_게시물은_그대로다() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        PostUpdate postUpdate = PostUpdate.builder()
+                .content("foobar")
+                .build();
+
+        // when
+        // then
+        mockMvc.perform(put("/api/posts/1")
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(postUpdate)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("helloworld"));
+    }
+
+    @Test
+    void 사용자는_강한_ETag_로_버전을_If_Match_에_담아_게시물을_수정할_수_있다() throws Exception {
+        // given
+        PostUpdate postUpdate = PostUpdate.builder()
+                .content("foobar")
+                .build();
+
+        // when
+        // then
+        mockMvc.perform(put("/api/posts/1")
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(postUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("foobar"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void 사용자는_CBOR_로_게시물을_수정하고_CBOR_로_응답을_받을_수_있다() throws Exception {
+        // given
+        CBORMapper cborMapper = new CBORMapper();
+        PostUpdate postUpdate = PostUpdate.builder()
+                .content("foobar")
+                .version(0L)
+                .build();
+
+        // when
+        MvcResult result = mockMvc.perform(put("/api/posts/1")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(postUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // then
+        JsonNode body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("content").asText()).isEqualTo("foobar");
+        assertThat(body.get("version").asLong()).isEqualTo(1L);
+    }
+
+    @Test
+    void 게시물을_조회할_때마다_조회수가_올라간다() throws Exception {
+        // given
+        mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(1));
+
+        // when
+        // then
+        mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(2));
+    }
+
+    @Test
+    void ETag_로_다시_조회해_304_를_받아도_조회수는_올라간다() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.viewCount").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+
+        // then
+        mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(3));
+    }
+
+    @Test
+    void 사용자는_최신_버전으로_게시물을_수정하면_버전이_올라간다() throws Exception {
+        // given
+        PostUpdate postUpdate = PostUpdate.builder()
+                .content("foobar")
+                .version(0L)
+                .build();
+
+        // when
+        // then
+        mockMvc.perform(
+                        put("/api/posts/1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(postUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("foobar"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void 사용자가_오래된_버전으로_게시물을_수정하면_409_응답을_받는다() throws Exception {
+        // given
+        PostUpdate postUpdate = PostUpdate.builder()
+                .content("foobar")
+                .version(7L)
+                .build();
+
+        // when
+        // then
+        mockMvc.perform(
+                        put("/api/posts/1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(postUpdate)))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Posts에서 ID 1의 버전 7이(가) 최신이 아닙니다."));
+    }
+
+    @Test
+    void 사용자가_버전_없이_게시물을_수정하면_428_응답을_받고_게시물은_그대로다() throws Exception {
+        // given
+        PostUpdate postUpdate = PostUpdate.builder()
+                .content("foobar")
+                .build();
+
+        // when
+        // then
+        mockMvc.perform(
+                        put("/api/posts/1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(postUpdate)))
+                .andExpect(status().isPreconditionRequired());
+        mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("helloworld"));
+    }
+
     @Test
     void 사용자가_존재하지_않는_게시물을_조회할_경우_에러가_난다() throws Exception {
         // given
@@ -60,6 +272,7 @@ public class PostControllerTest {
         // given
         PostUpdate postUpdate = PostUpdate.builder()
                 .content("foobar")
+                .version(0L)
                 .build();
 
         // when
@@ -75,4 +288,122 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.writer.email").value("kok202@naver.com"))
                 .andExpect(jsonPath("$.writer.nickname").value("kok202"));
     }
+
+    @Test
+    void 사용자는_작성자별_게시물을_최신순으로_조회하고_다음_커서를_받을_수_있다() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/api/posts")
+                        .queryParam("writerId", "1")
+                        .queryParam("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(2))
+                .andExpect(jsonPath("$.posts[0].id").value(3))
+                .andExpect(jsonPath("$.posts[1].id").value(2))
+                .andExpect(jsonPath("$.posts[0].writer.nickname").value("kok202"))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+
+        mockMvc.perform(get("/api/posts")
+                        .queryParam("writerId", "1")
+                        .queryParam("cursor", "2")
+                        .queryParam("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(1))
+                .andExpect(jsonPath("$.posts[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 사용자는_게시물을_NDJSON_으로_내보낼_수_있다() throws Exception {
+        // given
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/posts/export")
+                        .queryParam("createdAtFrom", "1678530673959")
+                        .queryParam("createdAtTo", "1678530673961"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"id\":2,\"content\":\"second\",\"createdAt\":1678530673959,\"modifiedAt\":0,\"writerId\":1,\"version\":0}\n"
+                                + "{\"id\":3,\"content\":\"third\",\"createdAt\":1678530673960,\"modifiedAt\":0,\"writerId\":1,\"version\":0}\n"));
+    }
+
+    @Test
+    void 사용자는_게시물을_본문으로_검색하고_다음_커서로_이어서_볼_수_있다() throws Exception {
+        // given
+        postSearchIndexRebuilder.rebuild();
+        mockMvc.perform(put("/api/posts/2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(PostUpdate.builder()
+                                .content("other writer too")
+                                .version(0L)
+                                .build())))
+                .andExpect(status().isOk());
+        postSearchIndex.awaitRefresh();
+
+        // when
+        // then
+        MvcResult first = mockMvc.perform(get("/api/posts/search")
+                        .queryParam("q", "writer")
+                        .queryParam("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(1))
+                .andExpect(jsonPath("$.posts[0].id").value(4))
+                .andExpect(jsonPath("$.posts[0].writer.nickname").value("kok303"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        String nextCursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+        mockMvc.perform(get("/api/posts/search")
+                        .queryParam("q", "writer")
+                        .queryParam("cursor", nextCursor)
+                        .queryParam("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(1))
+                .andExpect(jsonPath("$.posts[0].id").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 검색_커서가_잘못되면_400_을_응답받는다() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/api/posts/search")
+                        .queryParam("q", "writer")
+                        .queryParam("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/posts/search")
+                        .queryParam("q", "writer")
+                        .queryParam("cursor", "1.5:abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 재색인_엔드포인트는_설정으로_켜지_않으면_등록되지_않는다() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(post("/internal/search/rebuild"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void 게시물_단건_조회와_작성자별_목록_조회는_SQL_문_예산을_넘지_않는다() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/api/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(1));
+        mockMvc.perform(get("/api/posts")
+                        .queryParam("writerId", "1")
+                        .queryParam("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(1));
+    }
 }
@@ -1,11 +1,15 @@
 package com.example.demo.midium;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.demo.post.domain.PostCreate;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -15,6 +19,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -50,4 +55,29 @@ public class PostCreateControllerTest {
                 .andExpect(jsonPath("$.writer.email").value("kok202@naver.com"))
                 .andExpect(jsonPath("$.writer.nickname").value("kok202"));
     }
+
+    @Test
+    void 사용자는_CBOR_로_게시물을_작성하고_CBOR_로_응답을_받을_수_있다() throws Exception {
+        // given
+        CBORMapper cborMapper = new CBORMapper();
+        PostCreate postCreate = PostCreate.builder()
+                .writerId(1)
+                .content("helloworld")
+                .build();
+
+        // when
+        MvcResult result = mockMvc.perform(
+                        post("/api/posts")
+                                .contentType(MediaType.APPLICATION_CBOR)
+                                .accept(MediaType.APPLICATION_CBOR)
+                                .content(cborMapper.writeValueAsBytes(postCreate)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // then
+        JsonNode body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("content").asText()).isEqualTo("helloworld");
+        assertThat(body.get("writer").get("email").asText()).isEqualTo("kok202@naver.com");
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.demo.midium;
+
+import com.example.demo.post.infrastructure.PostJpaRepository;
+import com.example.demo.post.infrastructure.PostWithWriterProjection;
+import com.example.demo.user.domain.UserStatus;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource("classpath:test-application.properties")
+@Sql("/sql/post-controller-test-data.sql")
+public class PostJpaRepositoryTest {
+
+    @Autowired
+    private PostJpaRepository postJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    void findWithWriterById_는_게시물과_작성자를_엔티티를_올리지_않고_읽어온다() {
+        // given
+        // when
+        Optional<PostWithWriterProjection> result = postJpaRepository.findWithWriterById(1);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).isEqualTo("helloworld");
+        assertThat(result.get().getWriterEmail()).isEqualTo("kok202@naver.com");
+        assertThat(result.get().getWriterStatus()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+            .isZero();
+    }
+
+    @Test
+    void findWithWriterByWriterIdAndIdLessThan_은_커서보다_작은_id_를_최신순으로_읽어온다() {
+        // given
+        // when
+        List<PostWithWriterProjection> result =
+            postJpaRepository.findWithWriterByWriterIdAndIdLessThan(1, 3, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result).extracting(PostWithWriterProjection::getId).containsExactly(2L, 1L);
+        assertThat(result).extracting(PostWithWriterProjection::getWriterId).containsOnly(1L);
+    }
+}
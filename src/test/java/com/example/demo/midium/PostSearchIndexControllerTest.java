@@ -0,0 +1,45 @@
+package com.example.demo.midium;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@TestPropertySource(properties = "post.search.rebuild-endpoint.enabled=true")
+@SqlGroup({
+        @Sql(value = "/sql/post-controller-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+})
+public class PostSearchIndexControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void 관리자는_검색_인덱스를_다시_만들어_SQL_로_넣은_게시물도_검색되게_할_수_있다() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(post("/internal/search/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.indexed").value(4))
+                .andExpect(jsonPath("$.elapsedMillis").isNumber());
+        mockMvc.perform(get("/api/posts/search")
+                        .queryParam("q", "helloworld"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].id").value(1));
+    }
+}
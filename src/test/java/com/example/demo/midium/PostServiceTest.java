@@ -3,6 +3,7 @@ package com.example.demo.midium;
 import com.example.demo.post.domain.Post;
 import com.example.demo.post.domain.PostCreate;
 import com.example.demo.post.domain.PostUpdate;
+import com.example.demo.post.domain.PostView;
 import com.example.demo.post.service.PostServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +29,7 @@ public class PostServiceTest {
     void getById는_존재하는_게시물을_내려준다() {
         // given
         // when
-        Post result = postServiceImpl.getById(1);
+        PostView result = postServiceImpl.getById(1);
 
         // then
         assertThat(result.getContent()).isEqualTo("helloworld");
@@ -57,13 +58,14 @@ public class PostServiceTest {
         // given
         PostUpdate postUpdate = PostUpdate.builder()
             .content("hello world :)")
+            .version(0L)
             .build();
 
         // when
         postServiceImpl.update(1, postUpdate);
 
         // then
-        Post postEntity= postServiceImpl.getById(1);
+        PostView postEntity= postServiceImpl.getById(1);
         assertThat(postEntity.getContent()).isEqualTo("hello world :)");
         assertThat(postEntity.getModifiedAt()).isGreaterThan(0);
     }
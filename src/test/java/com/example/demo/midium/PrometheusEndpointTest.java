@@ -0,0 +1,45 @@
+package com.example.demo.midium;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+// @AutoConfigureTestDatabase 는 Hikari 가 아닌 DataSource 로 바꾸므로, 풀 지표를 보려고 메모리 DB 를 Hikari 로 엽니다.
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:prometheus;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "jpa.statistics.enabled=true"})
+public class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void 포트_호출은_결과별로_나뉘어_Hikari_Hibernate_지표와_함께_노출된다() throws Exception {
+        // given
+        mockMvc.perform(get("/api/posts/12345"))
+                .andExpect(status().isNotFound());
+
+        // when
+        // then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "port_calls_seconds_count{operation=\"view\",outcome=\"ResourceNotFoundException\",port=\"PostService\",}")))
+                .andExpect(content().string(containsString(
+                        "port_calls_seconds_count{operation=\"findViewById\",outcome=\"success\",port=\"PostRepository\",}")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_statements_total")));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.midium;
+
+import com.example.demo.common.infrastructure.QueryCountFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔드포인트 하나가 실행할 수 있는 SQL 문 수(예산)를 검사합니다. QueryCountFilter 가 내려 준 X-Query-Count 헤더를 봅니다.
+ * <pre>
+ * mockMvc.perform(get("/api/users/me").header("EMAIL", "kok202@naver.com"))
+ *     .andExpect(queryCountAtMost(2));
+ * </pre>
+ */
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    public static ResultMatcher queryCountAtMost(long budget) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryCountFilter.HEADER);
+            assertThat(header)
+                    .as("%s 헤더", QueryCountFilter.HEADER)
+                    .isNotNull();
+            assertThat(Long.parseLong(header))
+                    .as("%s %s 가 실행한 SQL 문 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(budget);
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.midium;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.post.service.PostViewCounter;
+import com.example.demo.user.service.LoginActivityRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컨텍스트를 직접 띄우고 닫은 뒤, 같은 메모리 DB 에 다시 붙어 종료할 때 반영한 값이 남았는지 봅니다.
+ * 주기 flush 가 끼어들지 않도록 주기를 한 시간으로 둡니다. 띄울 때마다 ddl-auto=create 로 테이블을 새로 만듭니다.
+ */
+public class ShutdownFlushTest {
+
+    private static final String URL = "jdbc:h2:mem:shutdown_flush;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Test
+    void 컨텍스트를_닫으면_반영되지_않은_로그인_시각을_저장한다() {
+        // given
+        ConfigurableApplicationContext applicationContext = start();
+        applicationContext.getBean(JdbcTemplate.class).update(
+                "insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+                        + "values (1, 'kok202@naver.com', 'kok202', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0)");
+        applicationContext.getBean(LoginActivityRecorder.class).record(1L, 1678530673958L);
+
+        // when
+        applicationContext.close();
+
+        // then
+        assertThat(jdbcTemplate().queryForObject("select last_login_at from users where id = 1", Long.class))
+                .isEqualTo(1678530673958L);
+    }
+
+    @Test
+    void 컨텍스트를_닫으면_반영되지_않은_조회수를_저장한다() {
+        // given
+        ConfigurableApplicationContext applicationContext = start();
+        JdbcTemplate jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into users (id, email, nickname, address, certification_code, status, last_login_at) "
+                + "values (2, 'kok303@naver.com', 'kok303', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab', 'ACTIVE', 0)");
+        jdbcTemplate.update("insert into posts (id, content, created_at, modified_at, version, view_count, user_id) "
+                + "values (1, 'helloworld', 1678530673958, 0, 0, 10, 2)");
+        PostViewCounter postViewCounter = applicationContext.getBean(PostViewCounter.class);
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+
+        // when
+        applicationContext.close();
+
+        // then
+        assertThat(jdbcTemplate().queryForObject("select view_count from posts where id = 1", Long.class))
+                .isEqualTo(12L);
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplication(DemoApplication.class).run(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=" + URL,
+                "--post.search.rebuild-on-startup=false",
+                "--user.mail.pool.enabled=false",
+                "--user.cache.enabled=false",
+                "--user.login-activity.flush-interval-ms=3600000",
+                "--post.view-count.flush-interval-ms=3600000");
+    }
+
+    private static JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+    }
+}
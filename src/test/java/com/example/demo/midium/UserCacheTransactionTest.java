@@ -0,0 +1,65 @@
+package com.example.demo.midium;
+
+import com.example.demo.user.domain.UserCreate;
+import com.example.demo.user.service.UserCache;
+import com.example.demo.user.service.UserServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@TestPropertySource(properties = {"user.cache.enabled=true", "user.mail.pool.enabled=false"})
+@SqlGroup({
+        @Sql(value = "/sql/user-service-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+})
+public class UserCacheTransactionTest {
+
+    @Autowired
+    private UserServiceImpl userServiceImpl;
+    @Autowired
+    private UserCache userCache;
+
+    @Test
+    void 커밋할_때_이메일이_겹쳐_롤백된_유저는_캐시에_남지_않는다() {
+        // given
+        UserCreate userCreate = UserCreate.builder()
+                .email("kok202@naver.com")
+                .nickname("duplicated")
+                .address("Seoul")
+                .build();
+
+        // when
+        assertThatThrownBy(() -> userServiceImpl.create(userCreate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // then
+        assertThat(userCache.getByEmail("kok202@naver.com")).isEmpty();
+        assertThat(userCache.getById(1000L)).isEmpty();
+    }
+
+    @Test
+    void 커밋된_유저는_캐시에서_찾을_수_있다() {
+        // given
+        UserCreate userCreate = UserCreate.builder()
+                .email("kok404@naver.com")
+                .nickname("kok404")
+                .address("Seoul")
+                .build();
+
+        // when
+        long id = userServiceImpl.create(userCreate).getId();
+
+        // then
+        assertThat(userCache.getById(id)).isPresent();
+    }
+}
@@ -5,17 +5,23 @@ import com.example.demo.user.domain.UserStatus;
 import com.example.demo.user.domain.UserUpdate;
 import com.example.demo.user.infrastructure.UserEntity;
 import com.example.demo.user.infrastructure.UserJpaRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import static com.example.demo.midium.QueryCountMatchers.queryCountAtMost;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -27,6 +33,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @AutoConfigureTestDatabase
+// 테스트 데이터가 SQL 로 직접 초기화되므로 유저 캐시를 끄고, SQL 문 예산을 보도록 X-Query-Count 를 켜고 실행합니다.
+@TestPropertySource(properties = {"user.cache.enabled=false", "query-count.enabled=true"})
 @SqlGroup({
         @Sql(value = "/sql/user-controller-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
         @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
@@ -37,6 +45,8 @@ public class UserControllerTest {
 
     @Autowired
     private UserJpaRepository userJpaRepository;
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
@@ -56,6 +66,51 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
+    @Test
+    void 사용자는_바뀌지_않은_유저를_ETag_로_다시_조회하면_304_응답을_받는다() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        // then
+        // JSON, CBOR 은 바이트가 다르므로 강한 ETag 를 함께 쓸 수 없습니다.
+        assertThat(eTag).startsWith("W/");
+        mockMvc.perform(get("/api/users/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/users/1")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void 사용자는_바뀌지_않은_유저를_Last_Modified_로_다시_조회하면_304_응답을_받는다() throws Exception {
+        // given
+        mockMvc.perform(put("/api/users/me")
+                        .header("EMAIL", "kok202@naver.com")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UserUpdate.builder()
+                                .nickname("nick")
+                                .address("add")
+                                .build())))
+                .andExpect(status().isOk());
+        String lastModified = mockMvc.perform(get("/api/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        // when
+        // then
+        mockMvc.perform(get("/api/users/1").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     void 사용자는_존재하지_않는_유저의_아이디로_api_호출할_경우_404_응답을_받는다() throws Exception {
 
@@ -132,4 +187,54 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.address").value("add"))
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
+
+    @Test
+    void 사용자는_Smile_로_내_정보를_수정하고_Smile_로_응답을_받을_수_있다() throws Exception {
+        // given
+        SmileMapper smileMapper = new SmileMapper();
+        UserUpdate userUpdate = UserUpdate.builder()
+                .nickname("nick")
+                .address("add")
+                .build();
+
+        // when
+        MvcResult result = mockMvc.perform(put("/api/users/me")
+                        .header("EMAIL", "kok202@naver.com")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(userUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        // then
+        JsonNode body = smileMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("nickname").asText()).isEqualTo("nick");
+        assertThat(body.get("address").asText()).isEqualTo("add");
+    }
+
+    @Test
+    void Accept_가_모든_타입이면_JSON_으로_응답한다() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/api/users/1").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.email").value("kok202@naver.com"));
+    }
+
+    @Test
+    void 내_정보_조회와_유저_조회는_SQL_문_예산을_넘지_않는다() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/api/users/me")
+                        .header("EMAIL", "kok202@naver.com"))
+                .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(1));
+        mockMvc.perform(get("/api/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(1));
+    }
 }
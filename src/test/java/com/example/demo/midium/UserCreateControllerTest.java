@@ -1,7 +1,9 @@
 package com.example.demo.midium;
 
 import com.example.demo.user.domain.UserCreate;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,10 +14,15 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -24,6 +31,8 @@ import static org.mockito.ArgumentMatchers.any;
 @SpringBootTest
 @AutoConfigureMockMvc
 @AutoConfigureTestDatabase
+// JavaMailSender 를 MockBean 으로 바꾸므로 연결을 직접 맺는 PooledMailSender 대신 MailSenderImpl 을 사용합니다.
+@TestPropertySource(properties = "user.mail.pool.enabled=false")
 @SqlGroup({
         @Sql(value = "/sql/delete-all-data.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 })
@@ -60,4 +69,53 @@ public class UserCreateControllerTest {
                 .andExpect(jsonPath("$.nickname").value("nick"))
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
+
+    @Test
+    void 사용자는_CBOR_로_회원_가입을_할_수_있다() throws Exception {
+        // given
+        CBORMapper cborMapper = new CBORMapper();
+        UserCreate userCreate = UserCreate.builder()
+                .email("kok202@naver.com")
+                .nickname("nick")
+                .address("add")
+                .build();
+        BDDMockito.doNothing().when(mailSender).send(any(SimpleMailMessage.class));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(userCreate)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // then
+        JsonNode body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("email").asText()).isEqualTo("kok202@naver.com");
+        assertThat(body.get("status").asText()).isEqualTo("PENDING");
+    }
+
+    @Test
+    void 사용자는_여러_명을_한번에_가입시킬_수_있고_이미_가입된_이메일은_실패로_내려온다() throws Exception {
+        // given
+        List<UserCreate> userCreates = List.of(
+                UserCreate.builder().email("kok202@naver.com").nickname("nick").address("add").build(),
+                UserCreate.builder().email("kok303@naver.com").nickname("nick2").address("add").build());
+        BDDMockito.doNothing().when(mailSender).send(any(SimpleMailMessage.class));
+        mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userCreates.get(0))))
+                .andExpect(status().isCreated());
+
+        // when
+        //then
+        mockMvc.perform(post("/api/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userCreates)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].created").value(false))
+                .andExpect(jsonPath("$[1].created").value(true))
+                .andExpect(jsonPath("$[1].user.id").isNumber())
+                .andExpect(jsonPath("$[1].user.status").value("PENDING"));
+    }
 }
@@ -6,10 +6,12 @@ import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserStatus;
 import com.example.demo.user.domain.UserCreate;
 import com.example.demo.user.domain.UserUpdate;
+import com.example.demo.user.service.CertificationMailDispatcher;
 import com.example.demo.user.service.UserServiceImpl;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -33,6 +35,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 public class UserServiceTest {
     @Autowired
     private UserServiceImpl userServiceImpl;
+    @Autowired
+    private CertificationMailDispatcher certificationMailDispatcher;
 
     @MockBean
     private JavaMailSender javaMailSender;
@@ -88,7 +92,7 @@ public class UserServiceTest {
     void userCreaetDTO_를_이용하여_유저를_생성_할_수_있다() {
         // given
         UserCreate userCreate = UserCreate.builder()
-                .email("kok202@naver.com")
+                .email("kok404@naver.com")
                 .address("seoul2")
                 .nickname("nick")
                 .build();
@@ -104,6 +108,25 @@ public class UserServiceTest {
         assertThat(result.getStatus()).isEqualTo(UserStatus.PENDING);
     }
 
+    @Test
+    void 유저를_생성하면_인증_메일은_커밋_이후_outbox_에서_발송된다() {
+        // given
+        UserCreate userCreate = UserCreate.builder()
+                .email("kok404@naver.com")
+                .address("seoul2")
+                .nickname("nick")
+                .build();
+        userServiceImpl.create(userCreate);
+
+        // when
+        certificationMailDispatcher.drain();
+
+        // then
+        // 스케줄러가 먼저 가져갔을 수도 있으므로 누가 보냈든 한 번 발송되었는지만 확인합니다.
+        Mockito.verify(javaMailSender, Mockito.timeout(5000)).send(BDDMockito.<SimpleMailMessage>argThat(
+                message -> message.getTo() != null && message.getTo()[0].equals("kok404@naver.com")));
+    }
+
     @Test
     void updateDto_를_이용하여_유저를_수정할_수_있다() {
         // given
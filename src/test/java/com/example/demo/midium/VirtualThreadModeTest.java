@@ -0,0 +1,58 @@
+package com.example.demo.midium;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가상 스레드 모드는 JDK 21 이상에서만 켤 수 있으므로 그보다 낮은 JDK 에서는 건너뜁니다.
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@AutoConfigureTestDatabase
+@EnabledIf("isJava21OrLater")
+public class VirtualThreadModeTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    static boolean isJava21OrLater() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Test
+    void 가상_스레드_모드에서는_Tomcat_이_요청을_가상_스레드에서_처리한다() throws Exception {
+        // given
+        ProtocolHandler protocolHandler = ((TomcatWebServer) applicationContext.getWebServer())
+                .getTomcat().getConnector().getProtocolHandler();
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+
+        // when
+        protocolHandler.getExecutor().execute(() -> {
+            try {
+                virtual.complete((Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+            } catch (ReflectiveOperationException e) {
+                virtual.completeExceptionally(e);
+            }
+        });
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/health_check.html", String.class);
+
+        // then
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.mock;
+
+import com.example.demo.user.domain.CertificationMail;
+import com.example.demo.user.domain.CertificationMailStatus;
+import com.example.demo.user.service.port.CertificationMailRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakeCertificationMailRepository implements CertificationMailRepository {
+
+    private final AtomicLong autoGeneratedId = new AtomicLong(0);
+    private final List<CertificationMail> data = new ArrayList<>();
+
+    public Optional<CertificationMail> findById(long id) {
+        return data.stream().filter(item -> item.getId().equals(id)).findAny();
+    }
+
+    public List<CertificationMail> findAll() {
+        return List.copyOf(data);
+    }
+
+    @Override
+    public CertificationMail save(CertificationMail certificationMail) {
+        if (certificationMail.getId() == null || certificationMail.getId() == 0) {
+            CertificationMail newCertificationMail = CertificationMail.builder()
+                    .id(autoGeneratedId.incrementAndGet())
+                    .userId(certificationMail.getUserId())
+                    .email(certificationMail.getEmail())
+                    .certificationCode(certificationMail.getCertificationCode())
+                    .status(certificationMail.getStatus())
+                    .attempts(certificationMail.getAttempts())
+                    .nextAttemptAt(certificationMail.getNextAttemptAt())
+                    .lastError(certificationMail.getLastError())
+                    .createdAt(certificationMail.getCreatedAt())
+                    .build();
+            data.add(newCertificationMail);
+            return newCertificationMail;
+        } else {
+            data.removeIf(item -> Objects.equals(item.getId(), certificationMail.getId()));
+            data.add(certificationMail);
+            return certificationMail;
+        }
+    }
+
+    @Override
+    public List<CertificationMail> saveAll(List<CertificationMail> certificationMails) {
+        return certificationMails.stream().map(this::save).toList();
+    }
+
+    @Override
+    public List<CertificationMail> findDue(long now, int limit) {
+        return data.stream()
+                .filter(item -> item.getStatus() == CertificationMailStatus.PENDING && item.getNextAttemptAt() <= now)
+                .sorted(Comparator.comparingLong(CertificationMail::getNextAttemptAt))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public boolean claim(long id, long expectedNextAttemptAt, long leaseUntil) {
+        Optional<CertificationMail> certificationMail = findById(id)
+                .filter(item -> item.getStatus() == CertificationMailStatus.PENDING && item.getNextAttemptAt() == expectedNextAttemptAt);
+        certificationMail.ifPresent(item -> save(item.lease(leaseUntil)));
+        return certificationMail.isPresent();
+    }
+}
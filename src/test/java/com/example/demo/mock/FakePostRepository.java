@@ -1,10 +1,14 @@
 package com.example.demo.mock;
 
 import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostExportCondition;
+import com.example.demo.post.domain.PostValidator;
+import com.example.demo.post.domain.PostView;
 import com.example.demo.post.service.port.PostRepository;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 public class FakePostRepository implements PostRepository {
     private final AtomicLong autoGeneratedId = new AtomicLong(0);
@@ -15,6 +19,85 @@ public class FakePostRepository implements PostRepository {
         return data.stream().filter(item -> item.getId().equals(id)).findAny();
     }
 
+    @Override
+    public Optional<PostView> findViewById(long id) {
+        return findById(id).map(PostView::from);
+    }
+
+    @Override
+    public Optional<PostValidator> findValidatorById(long id) {
+        return findById(id).map(post -> PostValidator.from(PostView.from(post)));
+    }
+
+    @Override
+    public List<PostView> findViewsByIds(Collection<Long> ids) {
+        synchronized (data) {
+            return data.stream().filter(item -> ids.contains(item.getId())).map(PostView::from).toList();
+        }
+    }
+
+    @Override
+    public List<PostView> findByWriterId(long writerId, Long cursor, int limit) {
+        synchronized (data) {
+            return data.stream()
+                    .filter(item -> item.getWriter().getId().equals(writerId))
+                    .filter(item -> cursor == null || item.getId() < cursor)
+                    .sorted(Comparator.comparing(Post::getId).reversed())
+                    .limit(limit)
+                    .map(PostView::from)
+                    .toList();
+        }
+    }
+
+    @Override
+    public boolean updateContent(long id, long expectedVersion, String content, long modifiedAt) {
+        synchronized (data) {
+            Optional<Post> found = findById(id);
+            if (found.isEmpty()) {
+                return false;
+            }
+            // 버전 없이 저장된 게시물은 DB 의 기본값처럼 0 으로 봅니다.
+            Post post = found.get();
+            long version = post.getVersion() == null ? 0 : post.getVersion();
+            if (expectedVersion != version) {
+                return false;
+            }
+            data.remove(post);
+            data.add(Post.builder()
+                    .id(post.getId())
+                    .content(content)
+                    .createdAt(post.getCreatedAt())
+                    .modifiedAt(modifiedAt)
+                    .writer(post.getWriter())
+                    .version(version + 1)
+                    .viewCount(post.getViewCount())
+                    .build());
+            return true;
+        }
+    }
+
+    @Override
+    public void addViewCounts(Map<Long, Long> viewsByPostId) {
+        synchronized (data) {
+            viewsByPostId.forEach((id, views) -> findById(id).ifPresent(post -> {
+                data.remove(post);
+                data.add(post.addViews(views));
+            }));
+        }
+    }
+
+    @Override
+    public void export(PostExportCondition condition, Consumer<Post> consumer) {
+        List<Post> snapshot;
+        synchronized (data) {
+            snapshot = new ArrayList<>(data);
+        }
+        snapshot.stream()
+                .filter(condition::matches)
+                .sorted(Comparator.comparing(Post::getId))
+                .forEach(consumer);
+    }
+
     @Override
     public Post save(Post post) {
         if (post.getId() == null || post.getId() == 0) {
@@ -24,6 +107,8 @@ public class FakePostRepository implements PostRepository {
                     .createdAt(post.getCreatedAt())
                     .modifiedAt(post.getModifiedAt())
                     .writer(post.getWriter())
+                    .version(0L)
+                    .viewCount(post.getViewCount())
                     .build();
             data.add(newPost);
             return newPost;
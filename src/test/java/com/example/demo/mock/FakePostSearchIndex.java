@@ -0,0 +1,107 @@
+package com.example.demo.mock;
+
+import com.example.demo.common.domain.exception.InvalidCursorException;
+import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostSearchHits;
+import com.example.demo.post.service.port.PostSearchIndex;
+
+import java.util.*;
+
+/**
+ * 공백으로 나눈 검색어를 모두 포함한 게시물을 찾습니다. 포함 횟수가 많을수록 앞에 오고 같으면 id 내림차순입니다.
+ * 커서는 앞 페이지까지 넘긴 건수입니다. 재색인은 새 Map 에 모았다가 publish 에서 바꿉니다.
+ */
+public class FakePostSearchIndex implements PostSearchIndex {
+
+    private volatile Map<Long, String> contents = Collections.synchronizedMap(new HashMap<>());
+    private volatile Map<Long, String> building;
+
+    @Override
+    public synchronized void index(long id, String content) {
+        contents.put(id, content);
+        if (building != null) {
+            building.put(id, content);
+        }
+    }
+
+    @Override
+    public void awaitRefresh() {
+    }
+
+    @Override
+    public synchronized Rebuild startRebuild() {
+        if (building != null) {
+            throw new IllegalStateException("이미 다시 만들고 있는 검색 인덱스가 있습니다.");
+        }
+        Map<Long, String> rebuilt = Collections.synchronizedMap(new HashMap<>());
+        building = rebuilt;
+        return new Rebuild() {
+            @Override
+            public void indexAll(List<Post> posts) {
+                posts.forEach(post -> rebuilt.put(post.getId(), post.getContent()));
+            }
+
+            @Override
+            public void publish() {
+                synchronized (FakePostSearchIndex.this) {
+                    contents = rebuilt;
+                    building = null;
+                }
+            }
+
+            @Override
+            public void abort() {
+                synchronized (FakePostSearchIndex.this) {
+                    if (building == rebuilt) {
+                        building = null;
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public PostSearchHits search(String query, String cursor, int size) {
+        List<String> terms = Arrays.stream(query.toLowerCase().split("\\s+")).filter(term -> !term.isEmpty()).toList();
+        Map<Long, String> snapshot;
+        synchronized (contents) {
+            snapshot = new HashMap<>(contents);
+        }
+        List<Long> matched = snapshot.entrySet().stream()
+                .filter(entry -> !terms.isEmpty() && terms.stream().allMatch(term -> entry.getValue().toLowerCase().contains(term)))
+                .sorted(Comparator.<Map.Entry<Long, String>>comparingInt(entry -> occurrences(entry.getValue(), terms)).reversed()
+                        .thenComparing(Map.Entry.<Long, String>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        int from = cursor == null ? 0 : parseCursor(cursor);
+        int to = Math.min(from + size, matched.size());
+        return PostSearchHits.builder()
+                .postIds(matched.subList(Math.min(from, to), to))
+                .nextCursor(to < matched.size() ? String.valueOf(to) : null)
+                .build();
+    }
+
+    private static int parseCursor(String cursor) {
+        try {
+            int from = Integer.parseInt(cursor);
+            if (from < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return from;
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    private static int occurrences(String content, List<String> terms) {
+        String lowerCase = content.toLowerCase();
+        int count = 0;
+        for (String term : terms) {
+            for (int index = lowerCase.indexOf(term); index >= 0; index = lowerCase.indexOf(term, index + 1)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
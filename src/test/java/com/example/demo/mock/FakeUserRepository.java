@@ -53,4 +53,25 @@ public class FakeUserRepository implements UserRepository {
             return user;
         }
     }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return users.stream().map(this::save).toList();
+    }
+
+    @Override
+    public void updateLastLoginAt(Map<Long, Long> lastLoginAtByUserId) {
+        lastLoginAtByUserId.forEach((id, lastLoginAt) -> findById(id)
+                .filter(user -> user.getLastLoginAt() == null || user.getLastLoginAt() < lastLoginAt)
+                .ifPresent(user -> save(user.login(() -> lastLoginAt))));
+    }
+
+    @Override
+    public boolean activate(long id, String certificationCode, long modifiedAt) {
+        Optional<User> pending = findById(id)
+                .filter(user -> user.getStatus() == UserStatus.PENDING)
+                .filter(user -> user.getCertificationCode().equals(certificationCode));
+        pending.ifPresent(user -> save(user.certificate(certificationCode, () -> modifiedAt)));
+        return pending.isPresent();
+    }
 }
@@ -7,23 +7,37 @@ import com.example.demo.post.controller.PostControllerTest;
 import com.example.demo.post.controller.PostCreateController;
 import com.example.demo.post.controller.port.PostService;
 import com.example.demo.post.service.PostServiceImpl;
+import com.example.demo.post.service.PostViewCounter;
 import com.example.demo.post.service.port.PostRepository;
+import com.example.demo.post.service.port.PostSearchIndex;
 import com.example.demo.user.controller.UserController;
 import com.example.demo.user.controller.UserCreateController;
 import com.example.demo.user.controller.UserCreateControllerTest;
 import com.example.demo.user.controller.port.*;
+import com.example.demo.user.service.CertificationMailDispatcher;
 import com.example.demo.user.service.CertificationService;
+import com.example.demo.user.service.LoginActivityRecorder;
+import com.example.demo.user.service.UserCache;
 import com.example.demo.user.service.UserServiceImpl;
+import com.example.demo.user.service.port.CertificationMailRepository;
 import com.example.demo.user.service.port.MailSender;
 import com.example.demo.user.service.port.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Builder;
+import org.springframework.transaction.support.TransactionOperations;
 
 public class TestContainer {
     public final MailSender mailSender;
     public final UserRepository userRepository;
     public final PostRepository postRepository;
+    public final PostSearchIndex postSearchIndex;
+    public final PostViewCounter postViewCounter;
     public final PostService postService;
+    public final CertificationMailRepository certificationMailRepository;
     public final CertificationService certificationService;
+    public final CertificationMailDispatcher certificationMailDispatcher;
+    public final LoginActivityRecorder loginActivityRecorder;
+    public final UserCache userCache;
     public final UserController userController;
     public final UserCreateController userCreateController;
     public final PostController postController;
@@ -34,17 +48,40 @@ public class TestContainer {
         this.mailSender = new FakeMailSender();
         this.userRepository = new FakeUserRepository();
         this.postRepository = new FakePostRepository();
+        this.postSearchIndex = new FakePostSearchIndex();
+        this.postViewCounter = PostViewCounter.builder()
+                .postRepository(this.postRepository)
+                .build();
+        this.userCache = UserCache.builder()
+                .enabled(true)
+                .build();
         this.postService = PostServiceImpl.builder()
                 .postRepository(this.postRepository)
                 .userRepository(this.userRepository)
                 .clockHolder(clockHolder)
+                .userCache(this.userCache)
+                .postSearchIndex(this.postSearchIndex)
+                .postViewCounter(this.postViewCounter)
                 .build();
+        this.certificationMailRepository = new FakeCertificationMailRepository();
         this.certificationService = new CertificationService(this.mailSender);
+        this.certificationMailDispatcher = CertificationMailDispatcher.builder()
+                .certificationService(this.certificationService)
+                .certificationMailRepository(this.certificationMailRepository)
+                .clockHolder(clockHolder)
+                .executor(Runnable::run)
+                .build();
+        this.loginActivityRecorder = LoginActivityRecorder.builder()
+                .userRepository(this.userRepository)
+                .build();
         UserServiceImpl userService = UserServiceImpl.builder()
                 .uuidHolder(uuidHolder)
                 .clockHolder(clockHolder)
                 .userRepository(this.userRepository)
-                .certificationService(this.certificationService)
+                .certificationMailRepository(this.certificationMailRepository)
+                .transactionOperations(TransactionOperations.withoutTransaction())
+                .loginActivityRecorder(this.loginActivityRecorder)
+                .userCache(this.userCache)
                 .build();
         this.userController = UserController.builder()
                 .userService(userService)
@@ -54,6 +91,7 @@ public class TestContainer {
                 .build();
         this.postController = PostController.builder()
                 .postService(postService)
+                .objectMapper(new ObjectMapper())
                 .build();
         this.postCreateController = PostCreateController.builder()
                 .postService(postService)
@@ -3,6 +3,7 @@ package com.example.demo.post.controller;
 import com.example.demo.common.domain.exception.ResourceNotFoundException;
 import com.example.demo.mock.TestContainer;
 import com.example.demo.post.controller.response.PostResponse;
+import com.example.demo.post.controller.response.PostSliceResponse;
 import com.example.demo.post.domain.Post;
 import com.example.demo.post.domain.PostUpdate;
 import com.example.demo.user.domain.User;
@@ -13,12 +14,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -52,7 +61,7 @@ public class PostControllerTest {
                 .build());
 
         // when
-        ResponseEntity<PostResponse> result = testContainer.postController.getPostById(1L);
+        ResponseEntity<PostResponse> result = testContainer.postController.getPostById(1L, new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
 
         // then
         assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
@@ -62,6 +71,42 @@ public class PostControllerTest {
         assertThat(result.getBody().getCreatedAt()).isEqualTo(100L);
     }
 
+    @Test
+    void 사용자는_바뀌지_않은_게시물을_ETag_로_다시_조회하면_304_응답을_받는다() {
+        // given
+        TestContainer testContainer = TestContainer.builder()
+                .build();
+        User user = User.builder()
+                .id(1L)
+                .email("kok202@naver.com")
+                .nickname("kok202")
+                .status(UserStatus.ACTIVE)
+                .build();
+        testContainer.userRepository.save(user);
+        testContainer.postRepository.save(Post.builder()
+                .id(1L)
+                .content("helloworld")
+                .writer(user)
+                .createdAt(100L)
+                .version(3L)
+                .build());
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        testContainer.postController.getPostById(
+                1L, new ServletWebRequest(new MockHttpServletRequest("GET", "/api/posts/1"), firstResponse));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, firstResponse.getHeader(HttpHeaders.ETAG));
+
+        // when
+        ResponseEntity<PostResponse> result = testContainer.postController.getPostById(
+                1L, new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // then
+        assertThat(firstResponse.getHeader(HttpHeaders.ETAG)).startsWith("W/\"3-");
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(304));
+        assertThat(result.getBody()).isNull();
+        assertThat(testContainer.postService.getById(1L).getViewCount()).isEqualTo(2L);
+    }
+
     @Test
     void 사용자가_존재하지_않는_게시물을_조회할_경우_에러가_난다() throws Exception {
         // given
@@ -71,7 +116,7 @@ public class PostControllerTest {
         // when
         // then
         assertThatThrownBy(() -> {
-            testContainer.postController.getPostById(1);
+            testContainer.postController.getPostById(1, new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
         }).isInstanceOf(ResourceNotFoundException.class);
     }
 
@@ -101,7 +146,7 @@ public class PostControllerTest {
         // when
         ResponseEntity<PostResponse> result = testContainer.postController.updatePost(1L, PostUpdate.builder()
                 .content("foobar")
-                .build());
+                .build(), "\"0\"");
 
         // then
         assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
@@ -111,4 +156,71 @@ public class PostControllerTest {
         assertThat(result.getBody().getCreatedAt()).isEqualTo(100L);
         assertThat(result.getBody().getModifiedAt()).isEqualTo(200L);
     }
+
+    @Test
+    void 사용자는_작성자별_게시물을_커서로_이어서_조회할_수_있다() {
+        // given
+        TestContainer testContainer = TestContainer.builder()
+                .build();
+        User user = User.builder()
+                .id(1L)
+                .email("kok202@naver.com")
+                .nickname("kok202")
+                .address("Seoul")
+                .status(UserStatus.ACTIVE)
+                .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab")
+                .lastLoginAt(100L)
+                .build();
+        testContainer.userRepository.save(user);
+        for (long id = 1; id <= 3; id++) {
+            testContainer.postRepository.save(Post.builder()
+                    .id(id)
+                    .content("post" + id)
+                    .writer(user)
+                    .createdAt(100L)
+                    .build());
+        }
+
+        // when
+        ResponseEntity<PostSliceResponse> result = testContainer.postController.getPostsByWriterId(1L, 3L, 20);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+        assertThat(result.getBody()).isNotNull();
+        assertThat(result.getBody().getPosts()).extracting(PostResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.getBody().getPosts().get(0).getWriter().getNickname()).isEqualTo("kok202");
+        assertThat(result.getBody().getNextCursor()).isNull();
+    }
+
+    @Test
+    void 게시물을_작성일_범위로_한_줄에_하나씩_내보낼_수_있다() throws Exception {
+        // given
+        TestContainer testContainer = TestContainer.builder()
+                .build();
+        User user = User.builder()
+                .id(1L)
+                .email("kok202@naver.com")
+                .nickname("kok202")
+                .status(UserStatus.ACTIVE)
+                .build();
+        for (long id = 1; id <= 3; id++) {
+            testContainer.postRepository.save(Post.builder()
+                    .id(id)
+                    .content("post" + id)
+                    .writer(user)
+                    .createdAt(id * 100)
+                    .build());
+        }
+
+        // when
+        ResponseEntity<StreamingResponseBody> result = testContainer.postController.exportPosts(200L, null, null, null);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        result.getBody().writeTo(outputStream);
+
+        // then
+        assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":2,\"content\":\"post2\",\"createdAt\":200,\"modifiedAt\":null,\"writerId\":1,\"version\":null}\n"
+                        + "{\"id\":3,\"content\":\"post3\",\"createdAt\":300,\"modifiedAt\":null,\"writerId\":1,\"version\":null}\n");
+    }
 }
@@ -0,0 +1,182 @@
+package com.example.demo.post.infrastructure;
+
+import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostSearchHits;
+import com.example.demo.post.service.port.PostSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LucenePostSearchIndexTest {
+
+    private LucenePostSearchIndex lucenePostSearchIndex;
+
+    @BeforeEach
+    void init() throws IOException {
+        lucenePostSearchIndex = new LucenePostSearchIndex("", 1000);
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        lucenePostSearchIndex.destroy();
+    }
+
+    @Test
+    void 검색어를_더_많이_포함한_게시물이_먼저_나온다() {
+        // given
+        lucenePostSearchIndex.index(1L, "spring boot");
+        lucenePostSearchIndex.index(2L, "spring spring spring boot");
+        lucenePostSearchIndex.index(3L, "lucene");
+        lucenePostSearchIndex.awaitRefresh();
+
+        // when
+        PostSearchHits result = lucenePostSearchIndex.search("spring", null, 10);
+
+        // then
+        assertThat(result.getPostIds()).containsExactly(2L, 1L);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 한국어는_조사가_붙은_어절에서도_찾을_수_있다() {
+        // given
+        lucenePostSearchIndex.index(1L, "게시물검색을 추가했습니다");
+        lucenePostSearchIndex.awaitRefresh();
+
+        // when
+        PostSearchHits result = lucenePostSearchIndex.search("검색", null, 10);
+
+        // then
+        assertThat(result.getPostIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 커서로_같은_점수의_게시물을_id_내림차순으로_빠짐없이_이어서_읽는다() {
+        // given
+        PostSearchIndex.Rebuild rebuild = lucenePostSearchIndex.startRebuild();
+        for (long id = 1; id <= 5; id++) {
+            rebuild.indexAll(List.of(post(id, "hello")));
+        }
+        rebuild.publish();
+
+        // when
+        PostSearchHits first = lucenePostSearchIndex.search("hello", null, 2);
+        PostSearchHits second = lucenePostSearchIndex.search("hello", first.getNextCursor(), 2);
+        PostSearchHits third = lucenePostSearchIndex.search("hello", second.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getPostIds()).containsExactly(5L, 4L);
+        assertThat(second.getPostIds()).containsExactly(3L, 2L);
+        assertThat(third.getPostIds()).containsExactly(1L);
+        assertThat(third.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 같은_id_를_다시_색인하면_이전_본문은_검색되지_않는다() {
+        // given
+        lucenePostSearchIndex.index(1L, "before");
+
+        // when
+        lucenePostSearchIndex.index(1L, "after");
+        lucenePostSearchIndex.awaitRefresh();
+
+        // then
+        assertThat(lucenePostSearchIndex.search("before", null, 10).getPostIds()).isEmpty();
+        assertThat(lucenePostSearchIndex.search("after", null, 10).getPostIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 색인한_문서는_reader_를_다시_열기_전까지_검색되지_않고_awaitRefresh_뒤에는_보인다() throws IOException {
+        // given
+        LucenePostSearchIndex slowRefresh = new LucenePostSearchIndex("", 60_000);
+        try {
+            slowRefresh.index(1L, "hello");
+
+            // when
+            PostSearchHits beforeRefresh = slowRefresh.search("hello", null, 10);
+            slowRefresh.awaitRefresh();
+            PostSearchHits afterRefresh = slowRefresh.search("hello", null, 10);
+
+            // then
+            assertThat(beforeRefresh.getPostIds()).isEmpty();
+            assertThat(afterRefresh.getPostIds()).containsExactly(1L);
+        } finally {
+            slowRefresh.destroy();
+        }
+    }
+
+    @Test
+    void 재색인하는_동안에는_이전_인덱스로_검색하고_publish_뒤에_새_인덱스로_바꾼다() {
+        // given
+        lucenePostSearchIndex.index(1L, "hello old");
+        lucenePostSearchIndex.awaitRefresh();
+
+        // when
+        PostSearchIndex.Rebuild rebuild = lucenePostSearchIndex.startRebuild();
+        rebuild.indexAll(List.of(post(2L, "hello rebuilt")));
+        lucenePostSearchIndex.index(3L, "hello during rebuild");
+        lucenePostSearchIndex.awaitRefresh();
+        PostSearchHits duringRebuild = lucenePostSearchIndex.search("hello", null, 10);
+        rebuild.publish();
+        lucenePostSearchIndex.awaitRefresh();
+        PostSearchHits afterPublish = lucenePostSearchIndex.search("hello", null, 10);
+
+        // then
+        assertThat(duringRebuild.getPostIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(afterPublish.getPostIds()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    void abort_한_재색인은_검색에_반영되지_않는다() {
+        // given
+        lucenePostSearchIndex.index(1L, "hello");
+        lucenePostSearchIndex.awaitRefresh();
+        PostSearchIndex.Rebuild rebuild = lucenePostSearchIndex.startRebuild();
+        rebuild.indexAll(List.of(post(2L, "hello")));
+
+        // when
+        rebuild.abort();
+
+        // then
+        assertThat(lucenePostSearchIndex.search("hello", null, 10).getPostIds()).containsExactly(1L);
+        lucenePostSearchIndex.startRebuild().abort();
+    }
+
+    @Test
+    void 파일_인덱스는_새_세대_디렉터리에_다시_만들고_이전_디렉터리를_지운다(@TempDir Path indexPath) throws IOException {
+        // given
+        LucenePostSearchIndex fileIndex = new LucenePostSearchIndex(indexPath.toString(), 1000);
+        try {
+            fileIndex.index(1L, "hello");
+
+            // when
+            PostSearchIndex.Rebuild rebuild = fileIndex.startRebuild();
+            rebuild.indexAll(List.of(post(2L, "hello")));
+            rebuild.publish();
+
+            // then
+            try (Stream<Path> children = Files.list(indexPath)) {
+                assertThat(children.map(child -> child.getFileName().toString())).containsExactly("1");
+            }
+            assertThat(fileIndex.search("hello", null, 10).getPostIds()).containsExactly(2L);
+        } finally {
+            fileIndex.destroy();
+        }
+    }
+
+    private static Post post(long id, String content) {
+        return Post.builder()
+                .id(id)
+                .content(content)
+                .build();
+    }
+}
@@ -1,30 +1,52 @@
 package com.example.demo.post.service;
 
+import com.example.demo.common.domain.exception.ResourceNotFoundException;
+import com.example.demo.common.domain.exception.VersionConflictException;
+import com.example.demo.common.domain.exception.VersionRequiredException;
 import com.example.demo.mock.FakePostRepository;
+import com.example.demo.mock.FakePostSearchIndex;
 import com.example.demo.mock.FakeUserRepository;
 import com.example.demo.mock.TestClockHolder;
 import com.example.demo.post.domain.Post;
 import com.example.demo.post.domain.PostCreate;
+import com.example.demo.post.domain.PostSearchSlice;
+import com.example.demo.post.domain.PostSlice;
 import com.example.demo.post.domain.PostUpdate;
+import com.example.demo.post.domain.PostView;
 import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserStatus;
+import com.example.demo.user.service.UserCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class PostServiceTest {
 
     private PostServiceImpl postServiceImpl;
+    private FakePostRepository fakePostRepository;
+    private UserCache userCache;
+    private PostViewCounter postViewCounter;
 
     @BeforeEach
     void init() {
-        FakePostRepository fakePostRepository = new FakePostRepository();
+        this.fakePostRepository = new FakePostRepository();
         FakeUserRepository fakeUserRepository = new FakeUserRepository();
+        this.userCache = UserCache.builder()
+                .enabled(true)
+                .build();
+        this.postViewCounter = PostViewCounter.builder()
+                .postRepository(fakePostRepository)
+                .build();
         this.postServiceImpl = PostServiceImpl.builder()
                 .postRepository(fakePostRepository)
                 .userRepository(fakeUserRepository)
                 .clockHolder(new TestClockHolder(1679530673958L))
+                .userCache(userCache)
+                .postSearchIndex(new FakePostSearchIndex())
+                .postViewCounter(postViewCounter)
+                .versionRequired(true)
                 .build();
         User user1 = User.builder()
                 .id(1L)
@@ -59,13 +81,71 @@ public class PostServiceTest {
     void getById는_존재하는_게시물을_내려준다() {
         // given
         // when
-        Post result = postServiceImpl.getById(1);
+        PostView result = postServiceImpl.getById(1);
 
         // then
         assertThat(result.getContent()).isEqualTo("helloworld");
         assertThat(result.getWriter().getEmail()).isEqualTo("kok202@naver.com");
     }
 
+    @Test
+    void view_는_조회수를_올리고_반영_전에도_조회_결과에_더해서_보여준다() {
+        // given
+        postServiceImpl.view(1);
+
+        // when
+        PostView result = postServiceImpl.view(1);
+
+        // then
+        assertThat(result.getViewCount()).isEqualTo(2L);
+        assertThat(fakePostRepository.findById(1).get().getViewCount()).isNull();
+        assertThat(postServiceImpl.getById(1).getViewCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void 조회수는_flush_뒤에_저장소에_반영되고_중복해서_더해지지_않는다() {
+        // given
+        postServiceImpl.view(1);
+        postServiceImpl.view(1);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(fakePostRepository.findById(1).get().getViewCount()).isEqualTo(2L);
+        assertThat(postServiceImpl.getById(1).getViewCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void getByWriterId_는_작성자의_게시물을_최신순으로_커서를_이어가며_내려준다() {
+        // given
+        User writer = fakePostRepository.findById(1L).get().getWriter();
+        for (long id = 2; id <= 3; id++) {
+            fakePostRepository.save(Post.builder()
+                    .id(id)
+                    .content("post" + id)
+                    .createdAt(1678530673958L)
+                    .writer(writer)
+                    .build());
+        }
+        fakePostRepository.save(Post.builder()
+                .id(4L)
+                .content("other writer")
+                .createdAt(1678530673958L)
+                .writer(User.builder().id(2L).build())
+                .build());
+
+        // when
+        PostSlice first = postServiceImpl.getByWriterId(1, null, 2);
+        PostSlice second = postServiceImpl.getByWriterId(1, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getPosts()).extracting(PostView::getId).containsExactly(3L, 2L);
+        assertThat(first.getNextCursor()).isEqualTo(2L);
+        assertThat(second.getPosts()).extracting(PostView::getId).containsExactly(1L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
     @Test
     void postCreateDto_를_이용하여_게시물을_생성할_수_있다() {
         // given
@@ -83,20 +163,134 @@ public class PostServiceTest {
         assertThat(result.getCreatedAt()).isEqualTo(1679530673958L);
     }
 
+    @Test
+    void 게시물_생성시_작성자가_캐시에_있으면_저장소에서_다시_읽지_않는다() {
+        // given
+        userCache.put(User.builder()
+            .id(3L)
+            .email("kok505@naver.com")
+            .nickname("kok505")
+            .status(UserStatus.ACTIVE)
+            .build());
+        PostCreate postCreate = PostCreate.builder()
+            .writerId(3)
+            .content("foobar")
+            .build();
+
+        // when
+        Post result = postServiceImpl.create(postCreate);
+
+        // then
+        assertThat(result.getWriter().getNickname()).isEqualTo("kok505");
+    }
+
+    @Test
+    void 없는_작성자로_게시물을_생성하면_ResourceNotFoundException_을_던진다() {
+        // given
+        PostCreate postCreate = PostCreate.builder()
+            .writerId(123456789)
+            .content("foobar")
+            .build();
+
+        // when
+        // then
+        assertThatThrownBy(() -> postServiceImpl.create(postCreate))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     void postUpdateDto_를_이용하여_게시물을_수정할_수_있다() {
         // given
         PostUpdate postUpdate = PostUpdate.builder()
             .content("hello world :)")
+            .version(0L)
             .build();
 
         // when
         postServiceImpl.update(1, postUpdate);
 
         // then
-        Post postEntity= postServiceImpl.getById(1);
+        PostView postEntity= postServiceImpl.getById(1);
         assertThat(postEntity.getContent()).isEqualTo("hello world :)");
         assertThat(postEntity.getModifiedAt()).isEqualTo(1679530673958L);
     }
 
-}
\ No newline at end of file
+    @Test
+    void 게시물_수정시_버전이_최신이_아니면_VersionConflictException_을_던진다() {
+        // given
+        postServiceImpl.update(1, PostUpdate.builder()
+            .content("first")
+            .version(0L)
+            .build());
+
+        // when
+        // then
+        assertThatThrownBy(() -> postServiceImpl.update(1, PostUpdate.builder()
+            .content("second")
+            .version(0L)
+            .build()))
+            .isInstanceOf(VersionConflictException.class);
+        assertThat(postServiceImpl.getById(1).getContent()).isEqualTo("first");
+        assertThat(postServiceImpl.getById(1).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void 게시물_수정시_버전이_없으면_VersionRequiredException_을_던지고_덮어쓰지_않는다() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> postServiceImpl.update(1, PostUpdate.builder()
+            .content("foobar")
+            .build()))
+            .isInstanceOf(VersionRequiredException.class);
+        assertThat(postServiceImpl.getById(1).getContent()).isEqualTo("helloworld");
+    }
+
+    @Test
+    void 버전을_강제하지_않으면_버전_없는_수정은_지금_버전을_기준으로_덮어쓴다() {
+        // given
+        PostServiceImpl lenientPostService = PostServiceImpl.builder()
+            .postRepository(fakePostRepository)
+            .clockHolder(new TestClockHolder(1679530673958L))
+            .userCache(userCache)
+            .postSearchIndex(new FakePostSearchIndex())
+            .postViewCounter(postViewCounter)
+            .build();
+
+        // when
+        PostView result = lenientPostService.update(1, PostUpdate.builder()
+            .content("foobar")
+            .build());
+
+        // then
+        assertThat(result.getContent()).isEqualTo("foobar");
+        assertThat(result.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void 없는_게시물을_수정하면_ResourceNotFoundException_을_던진다() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> postServiceImpl.update(123456789, PostUpdate.builder()
+            .content("foobar")
+            .version(0L)
+            .build()))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void 게시물을_수정하면_바뀐_본문으로_바로_검색된다() {
+        // given
+        // when
+        postServiceImpl.update(1, PostUpdate.builder()
+            .content("foobar")
+            .version(0L)
+            .build());
+
+        // then
+        PostSearchSlice result = postServiceImpl.search("foobar", null, 10);
+        assertThat(result.getPosts()).extracting(PostView::getId).containsExactly(1L);
+        assertThat(result.hasNext()).isFalse();
+    }
+}
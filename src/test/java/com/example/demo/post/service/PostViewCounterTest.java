@@ -0,0 +1,158 @@
+package com.example.demo.post.service;
+
+import com.example.demo.mock.FakePostRepository;
+import com.example.demo.post.domain.Post;
+import com.example.demo.post.domain.PostView;
+import com.example.demo.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PostViewCounterTest {
+
+    private FakePostRepository fakePostRepository;
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    void init() {
+        fakePostRepository = new FakePostRepository();
+        postViewCounter = PostViewCounter.builder()
+                .postRepository(fakePostRepository)
+                .build();
+
+        fakePostRepository.save(Post.builder()
+                .id(1L)
+                .content("helloworld")
+                .writer(User.builder().id(1L).build())
+                .viewCount(10L)
+                .build());
+    }
+
+    @Test
+    void 반영되지_않은_조회수를_저장된_조회수에_더해서_돌려준다() {
+        // given
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+
+        // when
+        PostView result = postViewCounter.merge(fakePostRepository.findViewById(1L).get());
+
+        // then
+        assertThat(result.getViewCount()).isEqualTo(12L);
+    }
+
+    @Test
+    void flush_를_하면_저장소에_더해지고_조회_결과는_그대로다() {
+        // given
+        postViewCounter.increment(1L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        PostView stored = fakePostRepository.findViewById(1L).get();
+        assertThat(stored.getViewCount()).isEqualTo(11L);
+        assertThat(postViewCounter.merge(stored).getViewCount()).isEqualTo(11L);
+    }
+
+    @Test
+    void flush_가_저장소에_쓰는_도중에_조회해도_같은_조회수를_두_번_더하지_않는다() {
+        // given
+        List<Long> viewCountsWhileWriting = new ArrayList<>();
+        FakePostRepository observingRepository = new FakePostRepository() {
+            @Override
+            public void addViewCounts(Map<Long, Long> viewsByPostId) {
+                super.addViewCounts(viewsByPostId);
+                viewCountsWhileWriting.add(postViewCounter.merge(findViewById(1L).get()).getViewCount());
+            }
+        };
+        observingRepository.save(fakePostRepository.findById(1L).get());
+        postViewCounter = PostViewCounter.builder()
+                .postRepository(observingRepository)
+                .build();
+        postViewCounter.increment(1L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(viewCountsWhileWriting).containsExactly(11L);
+    }
+
+    @Test
+    void 저장에_실패한_조회수는_되돌려_다음_flush_에서_반영한다() {
+        // given
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        FakePostRepository failingRepository = new FakePostRepository() {
+            @Override
+            public void addViewCounts(Map<Long, Long> viewsByPostId) {
+                if (failNext.getAndSet(false)) {
+                    throw new IllegalStateException("저장에 실패했습니다.");
+                }
+                super.addViewCounts(viewsByPostId);
+            }
+        };
+        failingRepository.save(fakePostRepository.findById(1L).get());
+        postViewCounter = PostViewCounter.builder()
+                .postRepository(failingRepository)
+                .build();
+        postViewCounter.increment(1L);
+
+        // when
+        assertThatThrownBy(postViewCounter::flush).isInstanceOf(IllegalStateException.class);
+        long beforeRetry = postViewCounter.merge(failingRepository.findViewById(1L).get()).getViewCount();
+        postViewCounter.flush();
+
+        // then
+        assertThat(beforeRetry).isEqualTo(11L);
+        assertThat(failingRepository.findById(1L).get().getViewCount()).isEqualTo(11L);
+    }
+
+    @Test
+    void 한_주기_동안_조회가_없던_게시물은_대기_목록에서_빠진다() {
+        // given
+        postViewCounter.increment(1L);
+        postViewCounter.flush();
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(postViewCounter.pendingCount()).isZero();
+        assertThat(fakePostRepository.findById(1L).get().getViewCount()).isEqualTo(11L);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_조회해도_반영하는_도중에도_조회수가_빠지지_않는다() {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    postViewCounter.increment(1L);
+                }
+            }, executor));
+        }
+
+        // when
+        while (!futures.stream().allMatch(CompletableFuture::isDone)) {
+            postViewCounter.flush();
+        }
+        executor.shutdown();
+        postViewCounter.flush();
+
+        // then
+        assertThat(fakePostRepository.findById(1L).get().getViewCount()).isEqualTo(40_010L);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.user.controller;
 
 import com.example.demo.common.domain.exception.CertificationCodeNotMatchedException;
 import com.example.demo.common.domain.exception.ResourceNotFoundException;
+import com.example.demo.mock.TestClockHolder;
 import com.example.demo.mock.TestContainer;
 import com.example.demo.user.controller.request.UserUpdateRequest;
 import com.example.demo.user.controller.response.MyProfileResponse;
@@ -13,6 +14,9 @@ import com.example.demo.user.domain.UserUpdate;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,7 +38,7 @@ public class UserControllerTest {
                 .build());
 
         // when
-        ResponseEntity<UserResponse> result = testContainer.userController.getUserById(1);
+        ResponseEntity<UserResponse> result = testContainer.userController.getUserById(1, new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
 
         //then
         assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
@@ -54,7 +58,7 @@ public class UserControllerTest {
         // when
         //then
         assertThatThrownBy(() -> {
-            ResponseEntity<UserResponse> result = testContainer.userController.getUserById(1);
+            ResponseEntity<UserResponse> result = testContainer.userController.getUserById(1, new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
         }).isInstanceOf(ResourceNotFoundException.class);
     }
 
@@ -62,7 +66,9 @@ public class UserControllerTest {
     void 사용자는_인증_코드로_계정을_활성화_시킬_수_있다() throws Exception {
 
         // given
-        TestContainer testContainer = TestContainer.builder().build();
+        TestContainer testContainer = TestContainer.builder()
+                .clockHolder(new TestClockHolder(1678530673958L))
+                .build();
 
         testContainer.userRepository.save(User.builder()
                 .id(1L)
@@ -85,7 +91,9 @@ public class UserControllerTest {
     @Test
     void 사용자는_인증_코드가_일치하지_않을_경우_권한_없음_에러를_내려준다() throws Exception {
         // given
-        TestContainer testContainer = TestContainer.builder().build();
+        TestContainer testContainer = TestContainer.builder()
+                .clockHolder(new TestClockHolder(1678530673958L))
+                .build();
 
         testContainer.userRepository.save(User.builder()
                 .id(1L)
@@ -138,7 +146,9 @@ public class UserControllerTest {
     @Test
     void 사용자는_내_정보를_수정할_수_있다() {
         // given
-        TestContainer testContainer = TestContainer.builder().build();
+        TestContainer testContainer = TestContainer.builder()
+                .clockHolder(new TestClockHolder(1678530673958L))
+                .build();
 
         testContainer.userRepository.save(User.builder()
                 .id(1L)
@@ -2,6 +2,7 @@ package com.example.demo.user.controller;
 
 import com.example.demo.mock.TestContainer;
 import com.example.demo.user.controller.response.MyProfileResponse;
+import com.example.demo.user.controller.response.UserCreateResultResponse;
 import com.example.demo.user.controller.response.UserResponse;
 import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserCreate;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class UserCreateControllerTest {
@@ -20,6 +23,7 @@ public class UserCreateControllerTest {
         // given
         TestContainer testContainer = TestContainer.builder()
                 .uuidHolder(() -> "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+                .clockHolder(() -> 1678530673958L)
                 .build();
 
         UserCreate userCreate = UserCreate.builder()
@@ -40,4 +44,28 @@ public class UserCreateControllerTest {
         assertThat(result.getBody().getStatus()).isEqualTo(UserStatus.PENDING);
 
     }
+
+    @Test
+    void 사용자는_여러_명을_한번에_가입시키고_항목별_결과를_받을_수_있다() {
+        // given
+        TestContainer testContainer = TestContainer.builder()
+                .uuidHolder(() -> "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+                .clockHolder(() -> 1678530673958L)
+                .build();
+
+        List<UserCreate> userCreates = List.of(
+                UserCreate.builder().email("kok202@naver.com").nickname("nick").address("add").build(),
+                UserCreate.builder().email("kok202@naver.com").nickname("nick").address("add").build());
+
+        // when
+        ResponseEntity<List<UserCreateResultResponse>> result = testContainer.userCreateController.createUsers(userCreates);
+
+        //then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+        assertThat(result.getBody()).hasSize(2);
+        assertThat(result.getBody().get(0).isCreated()).isTrue();
+        assertThat(result.getBody().get(0).getUser().getStatus()).isEqualTo(UserStatus.PENDING);
+        assertThat(result.getBody().get(1).isCreated()).isFalse();
+        assertThat(result.getBody().get(1).getUser()).isNull();
+    }
 }
@@ -0,0 +1,86 @@
+package com.example.demo.user.domain;
+
+import com.example.demo.mock.TestClockHolder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CertificationMailTest {
+
+    private final User user = User.builder()
+            .id(1L)
+            .email("kok202@naver.com")
+            .nickname("kok202")
+            .address("Seoul")
+            .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .status(UserStatus.PENDING)
+            .build();
+
+    @Test
+    public void CertificationMail은_User_로_생성하면_바로_보낼_수_있는_PENDING_상태이다() {
+        //given
+        //when
+        CertificationMail certificationMail = CertificationMail.from(user, new TestClockHolder(1000L));
+
+        //then
+        assertThat(certificationMail.getId()).isNull();
+        assertThat(certificationMail.getUserId()).isEqualTo(1L);
+        assertThat(certificationMail.getEmail()).isEqualTo("kok202@naver.com");
+        assertThat(certificationMail.getCertificationCode()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        assertThat(certificationMail.getStatus()).isEqualTo(CertificationMailStatus.PENDING);
+        assertThat(certificationMail.getAttempts()).isZero();
+        assertThat(certificationMail.getNextAttemptAt()).isEqualTo(1000L);
+    }
+
+    @Test
+    public void 발송에_실패하면_실패_횟수만큼_두배씩_늘어난_시간_뒤에_다시_시도한다() {
+        //given
+        CertificationMail certificationMail = CertificationMail.from(user, new TestClockHolder(1000L));
+        Duration initialBackoff = Duration.ofSeconds(10);
+        Duration maxBackoff = Duration.ofSeconds(25);
+
+        //when
+        CertificationMail first = certificationMail.failed("timeout", new TestClockHolder(2000L), initialBackoff, maxBackoff, 10);
+        CertificationMail second = first.failed("timeout", new TestClockHolder(2000L), initialBackoff, maxBackoff, 10);
+        CertificationMail third = second.failed("timeout", new TestClockHolder(2000L), initialBackoff, maxBackoff, 10);
+
+        //then
+        assertThat(first.getStatus()).isEqualTo(CertificationMailStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isEqualTo(12_000L);
+        assertThat(first.getLastError()).isEqualTo("timeout");
+        assertThat(second.getNextAttemptAt()).isEqualTo(22_000L);
+        assertThat(third.getNextAttemptAt()).isEqualTo(27_000L);
+    }
+
+    @Test
+    public void 최대_시도_횟수만큼_실패하면_FAILED_상태가_된다() {
+        //given
+        CertificationMail certificationMail = CertificationMail.from(user, new TestClockHolder(1000L));
+
+        //when
+        CertificationMail result = certificationMail
+                .failed("timeout", new TestClockHolder(2000L), Duration.ofSeconds(1), Duration.ofSeconds(1), 2)
+                .failed("timeout", new TestClockHolder(3000L), Duration.ofSeconds(1), Duration.ofSeconds(1), 2);
+
+        //then
+        assertThat(result.getStatus()).isEqualTo(CertificationMailStatus.FAILED);
+        assertThat(result.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    public void 발송에_성공하면_SENT_상태가_된다() {
+        //given
+        CertificationMail certificationMail = CertificationMail.from(user, new TestClockHolder(1000L));
+
+        //when
+        CertificationMail result = certificationMail.lease(5000L).sent();
+
+        //then
+        assertThat(result.getStatus()).isEqualTo(CertificationMailStatus.SENT);
+        assertThat(result.getAttempts()).isEqualTo(1);
+        assertThat(result.getLastError()).isNull();
+    }
+}
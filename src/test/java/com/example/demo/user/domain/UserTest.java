@@ -36,6 +36,22 @@ public class UserTest {
 
     }
 
+    @Test
+    public void User는_UserCreate_의_이메일을_정규화해서_생성한다() {
+        //given
+        UserCreate userCreate = UserCreate.builder()
+                .email("  Kok202@Naver.COM ")
+                .nickname("nick")
+                .address("add")
+                .build();
+
+        //when
+        User user = User.from(userCreate, new TestUuidHolder("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa"));
+
+        //then
+        assertThat(user.getEmail()).isEqualTo("kok202@naver.com");
+    }
+
     @Test
     public void User는_UserUpdate_객체로_데이터를_업데이트_할_수_있다() {
 
@@ -55,7 +71,7 @@ public class UserTest {
                 .address("add")
                 .build();
         //when
-        user = user.update(userUpdate);
+        user = user.update(userUpdate, new TestClockHolder(1678530673958L));
 
         //then
         assertThat(user.getId()).isEqualTo(1L);
@@ -65,6 +81,8 @@ public class UserTest {
         assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
         assertThat(user.getLastLoginAt()).isEqualTo(100L);
         assertThat(user.getCertificationCode()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        assertThat(user.getModifiedAt()).isEqualTo(1678530673958L);
+        assertThat(UserSummary.from(user).getLastModifiedAt()).isEqualTo(1678530673958L);
     }
 
     @Test
@@ -99,10 +117,11 @@ public class UserTest {
                 .build();
 
         //when
-        user = user.certificate("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        user = user.certificate("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", new TestClockHolder(1678530673958L));
 
         //then
         assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(user.getModifiedAt()).isEqualTo(1678530673958L);
     }
 
     @Test
@@ -121,7 +140,7 @@ public class UserTest {
         //when
         //then
         assertThatThrownBy(() -> {
-          user.certificate("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab");
+          user.certificate("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab", new TestClockHolder(1678530673958L));
         }).isInstanceOf(CertificationCodeNotMatchedException.class);
     }
 }
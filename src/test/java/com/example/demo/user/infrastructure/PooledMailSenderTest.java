@@ -0,0 +1,199 @@
+package com.example.demo.user.infrastructure;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PooledMailSenderTest {
+
+    private GreenMail greenMail;
+    private PooledMailSender pooledMailSender;
+
+    @BeforeEach
+    void init() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        greenMail.start();
+
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(greenMail.getSmtp().getPort());
+        pooledMailSender = PooledMailSender.builder()
+                .javaMailSender(javaMailSender)
+                .connections(2)
+                .messagesPerConnection(3)
+                .sendTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pooledMailSender.destroy();
+        greenMail.stop();
+    }
+
+    @Test
+    void 여러_스레드에서_보낸_메일이_연결을_나눠_쓰며_모두_전송된다() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            String email = "user" + i + "@naver.com";
+            futures.add(CompletableFuture.runAsync(() -> pooledMailSender.send(email, "title", "content"), executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executorService.shutdown();
+
+        // then
+        MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+        assertThat(receivedMessages).hasSize(20);
+        assertThat(receivedMessages[0].getSubject()).isEqualTo("title");
+    }
+
+    @Test
+    void 서버가_연결을_끊은_뒤에도_새_연결로_다시_보낸다() {
+        // given
+        pooledMailSender.send("kok202@naver.com", "title", "content");
+        int port = greenMail.getSmtp().getPort();
+        greenMail.stop();
+        greenMail = new GreenMail(ServerSetupTest.SMTP.port(port));
+        greenMail.start();
+
+        // when
+        pooledMailSender.send("kok303@naver.com", "title", "content");
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void SMTP_서버에_연결할_수_없으면_MailSendException_이_발생한다() {
+        // given
+        greenMail.stop();
+
+        // when
+        // then
+        assertThatThrownBy(() -> pooledMailSender.send("kok202@naver.com", "title", "content"))
+                .isInstanceOf(MailSendException.class);
+    }
+
+    @Test
+    void 연결하다_RuntimeException_이_나도_그_메일만_실패하고_전송_스레드는_다음_메일을_보낸다() throws InterruptedException {
+        // given
+        AtomicInteger failures = new AtomicInteger(2);
+        JavaMailSenderImpl flakyMailSender = new JavaMailSenderImpl() {
+            @Override
+            public String getHost() {
+                if (failures.getAndDecrement() > 0) {
+                    throw new IllegalStateException("SMTP 호스트를 읽지 못했습니다.");
+                }
+                return "localhost";
+            }
+        };
+        flakyMailSender.setPort(greenMail.getSmtp().getPort());
+        PooledMailSender flakySender = PooledMailSender.builder()
+                .javaMailSender(flakyMailSender)
+                .connections(1)
+                .sendTimeout(Duration.ofSeconds(2))
+                .build();
+
+        try {
+            // when
+            // then
+            assertThatThrownBy(() -> flakySender.send("kok202@naver.com", "title", "content"))
+                    .isInstanceOf(MailSendException.class)
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> flakySender.send("kok303@naver.com", "title", "content"))
+                    .isInstanceOf(MailSendException.class)
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+            flakySender.send("kok404@naver.com", "title", "content");
+            assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        } finally {
+            flakySender.destroy();
+        }
+    }
+
+    @Test
+    void 전송이_시작되지_않은_채_시간이_지난_메일은_취소되어_나중에도_보내지지_않는다() throws Exception {
+        // given
+        // 연결은 받지만 인사(220)를 보내지 않아 전송 스레드를 붙잡아 두는 SMTP 서버입니다.
+        AtomicInteger accepted = new AtomicInteger();
+        List<Socket> sockets = new CopyOnWriteArrayList<>();
+        try (ServerSocket stalledServer = new ServerSocket(0)) {
+            Thread acceptor = new Thread(() -> {
+                try {
+                    while (true) {
+                        sockets.add(stalledServer.accept());
+                        accepted.incrementAndGet();
+                    }
+                } catch (IOException ignored) {
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+            javaMailSender.setHost("localhost");
+            javaMailSender.setPort(stalledServer.getLocalPort());
+            Properties properties = new Properties();
+            properties.setProperty("mail.smtp.connectiontimeout", "1000");
+            properties.setProperty("mail.smtp.timeout", "1000");
+            javaMailSender.setJavaMailProperties(properties);
+            PooledMailSender stalledSender = PooledMailSender.builder()
+                    .javaMailSender(javaMailSender)
+                    .connections(1)
+                    .sendTimeout(Duration.ofMillis(200))
+                    .build();
+
+            try {
+                CompletableFuture<Void> inFlight = CompletableFuture.runAsync(
+                        () -> stalledSender.send("kok202@naver.com", "title", "content"));
+                while (accepted.get() == 0) {
+                    TimeUnit.MILLISECONDS.sleep(10);
+                }
+
+                // when
+                // then
+                assertThatThrownBy(() -> stalledSender.send("kok303@naver.com", "title", "content"))
+                        .isInstanceOf(MailSendException.class)
+                        .hasMessageContaining("취소");
+                assertThatThrownBy(inFlight::join)
+                        .isInstanceOf(CompletionException.class)
+                        .hasCauseInstanceOf(MailSendException.class)
+                        .cause()
+                        .hasMessageNotContaining("취소");
+                TimeUnit.MILLISECONDS.sleep(300);
+                assertThat(accepted.get()).isEqualTo(1);
+            } finally {
+                stalledSender.destroy();
+                for (Socket socket : sockets) {
+                    socket.close();
+                }
+            }
+        }
+    }
+}
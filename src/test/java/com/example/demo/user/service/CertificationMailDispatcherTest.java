@@ -0,0 +1,135 @@
+package com.example.demo.user.service;
+
+import com.example.demo.mock.FakeCertificationMailRepository;
+import com.example.demo.mock.FakeMailSender;
+import com.example.demo.mock.TestClockHolder;
+import com.example.demo.user.domain.CertificationMail;
+import com.example.demo.user.domain.CertificationMailStatus;
+import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CertificationMailDispatcherTest {
+
+    private final FakeCertificationMailRepository fakeCertificationMailRepository = new FakeCertificationMailRepository();
+    private final TestClockHolder clockHolder = new TestClockHolder(1678530673958L);
+
+    private CertificationMail savePendingMail(long userId, String email) {
+        User user = User.builder()
+                .id(userId)
+                .email(email)
+                .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+                .status(UserStatus.PENDING)
+                .build();
+        return fakeCertificationMailRepository.save(CertificationMail.from(user, clockHolder));
+    }
+
+    @Test
+    void outbox_에_쌓인_인증_메일을_보내고_SENT_로_바꾼다() {
+        // given
+        FakeMailSender fakeMailSender = new FakeMailSender();
+        CertificationMail saved = savePendingMail(1L, "kok202@naver.com");
+        CertificationMailDispatcher certificationMailDispatcher = CertificationMailDispatcher.builder()
+                .certificationService(new CertificationService(fakeMailSender))
+                .certificationMailRepository(fakeCertificationMailRepository)
+                .clockHolder(clockHolder)
+                .executor(Runnable::run)
+                .build();
+
+        // when
+        int processed = certificationMailDispatcher.drain();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(fakeMailSender.email).isEqualTo("kok202@naver.com");
+        assertThat(fakeMailSender.content).contains("/api/users/1/verify?certificationCode=aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        assertThat(fakeCertificationMailRepository.findById(saved.getId()).get().getStatus()).isEqualTo(CertificationMailStatus.SENT);
+    }
+
+    @Test
+    void 발송에_실패한_메일은_backoff_이후에_다시_보낸다() {
+        // given
+        CertificationMail saved = savePendingMail(1L, "kok202@naver.com");
+        CertificationMailDispatcher certificationMailDispatcher = CertificationMailDispatcher.builder()
+                .certificationService(new CertificationService((email, title, content) -> {
+                    throw new IllegalStateException("smtp timeout");
+                }))
+                .certificationMailRepository(fakeCertificationMailRepository)
+                .clockHolder(clockHolder)
+                .executor(Runnable::run)
+                .initialBackoff(Duration.ofSeconds(10))
+                .build();
+
+        // when
+        int processed = certificationMailDispatcher.drain();
+
+        // then
+        CertificationMail result = fakeCertificationMailRepository.findById(saved.getId()).get();
+        assertThat(processed).isEqualTo(1);
+        assertThat(result.getStatus()).isEqualTo(CertificationMailStatus.PENDING);
+        assertThat(result.getAttempts()).isEqualTo(1);
+        assertThat(result.getNextAttemptAt()).isEqualTo(1678530673958L + 10_000L);
+        assertThat(result.getLastError()).contains("smtp timeout");
+        assertThat(certificationMailDispatcher.drain()).isZero();
+    }
+
+    @Test
+    void 다른_노드가_먼저_가져간_메일은_보내지_않는다() {
+        // given
+        FakeMailSender fakeMailSender = new FakeMailSender();
+        CertificationMail saved = savePendingMail(1L, "kok202@naver.com");
+        fakeCertificationMailRepository.claim(saved.getId(), saved.getNextAttemptAt(), saved.getNextAttemptAt() - 1);
+        CertificationMailDispatcher certificationMailDispatcher = CertificationMailDispatcher.builder()
+                .certificationService(new CertificationService(fakeMailSender))
+                .certificationMailRepository(new FakeCertificationMailRepository() {
+                    @Override
+                    public List<CertificationMail> findDue(long now, int limit) {
+                        return List.of(saved);
+                    }
+
+                    @Override
+                    public boolean claim(long id, long expectedNextAttemptAt, long leaseUntil) {
+                        return fakeCertificationMailRepository.claim(id, expectedNextAttemptAt, leaseUntil);
+                    }
+                })
+                .clockHolder(clockHolder)
+                .executor(Runnable::run)
+                .build();
+
+        // when
+        int processed = certificationMailDispatcher.drain();
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(fakeMailSender.email).isNull();
+    }
+
+    @Test
+    void batchSize_보다_많이_쌓여_있으면_모두_보낼_때까지_반복한다() {
+        // given
+        for (long i = 1; i <= 5; i++) {
+            savePendingMail(i, "user" + i + "@naver.com");
+        }
+        CertificationMailDispatcher certificationMailDispatcher = CertificationMailDispatcher.builder()
+                .certificationService(new CertificationService(new FakeMailSender()))
+                .certificationMailRepository(fakeCertificationMailRepository)
+                .clockHolder(clockHolder)
+                .executor(Runnable::run)
+                .batchSize(2)
+                .build();
+
+        // when
+        int processed = certificationMailDispatcher.drain();
+
+        // then
+        assertThat(processed).isEqualTo(5);
+        assertThat(fakeCertificationMailRepository.findAll())
+                .extracting(CertificationMail::getStatus)
+                .containsOnly(CertificationMailStatus.SENT);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.user.service;
+
+import com.example.demo.mock.FakeUserRepository;
+import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoginActivityRecorderTest {
+
+    private FakeUserRepository fakeUserRepository;
+    private LoginActivityRecorder loginActivityRecorder;
+
+    @BeforeEach
+    void init() {
+        fakeUserRepository = new FakeUserRepository();
+        loginActivityRecorder = LoginActivityRecorder.builder()
+                .userRepository(fakeUserRepository)
+                .build();
+
+        fakeUserRepository.save(User.builder()
+                .id(1L)
+                .email("kok202@naver.com")
+                .nickname("kok202")
+                .address("Seoul")
+                .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+                .status(UserStatus.ACTIVE)
+                .lastLoginAt(0L)
+                .build());
+    }
+
+    @Test
+    void 같은_유저의_로그인은_가장_최근_시각_하나로_합쳐진다() {
+        // given
+        // when
+        loginActivityRecorder.record(1L, 200L);
+        loginActivityRecorder.record(1L, 100L);
+        loginActivityRecorder.record(1L, 300L);
+
+        // then
+        assertThat(loginActivityRecorder.pendingCount()).isEqualTo(1);
+        assertThat(loginActivityRecorder.coalescedCount()).isEqualTo(2);
+        assertThat(loginActivityRecorder.merge(fakeUserRepository.getById(1L)).getLastLoginAt()).isEqualTo(300L);
+    }
+
+    @Test
+    void flush_를_하면_저장소에_반영되고_대기_목록이_비워진다() {
+        // given
+        loginActivityRecorder.record(1L, 300L);
+
+        // when
+        loginActivityRecorder.flush();
+
+        // then
+        assertThat(loginActivityRecorder.pendingCount()).isZero();
+        assertThat(fakeUserRepository.getById(1L).getLastLoginAt()).isEqualTo(300L);
+    }
+
+    @Test
+    void 대기_중인_값보다_저장된_값이_최신이면_저장된_값을_그대로_돌려준다() {
+        // given
+        loginActivityRecorder.record(1L, 300L);
+        User user = fakeUserRepository.getById(1L).login(() -> 400L);
+
+        // when
+        User result = loginActivityRecorder.merge(user);
+
+        // then
+        assertThat(result.getLastLoginAt()).isEqualTo(400L);
+    }
+
+    @Test
+    void 대기_한도를_넘으면_요청_스레드가_아니라_flushExecutor_에서_반영한다() {
+        // given
+        List<Runnable> scheduled = new ArrayList<>();
+        LoginActivityRecorder boundedRecorder = LoginActivityRecorder.builder()
+                .userRepository(fakeUserRepository)
+                .maxPending(1)
+                .flushExecutor(scheduled::add)
+                .build();
+
+        // when
+        boundedRecorder.record(1L, 500L);
+        boundedRecorder.record(1L, 600L);
+
+        // then
+        assertThat(scheduled).hasSize(1);
+        assertThat(fakeUserRepository.getById(1L).getLastLoginAt()).isEqualTo(0L);
+
+        scheduled.get(0).run();
+        assertThat(boundedRecorder.pendingCount()).isZero();
+        assertThat(fakeUserRepository.getById(1L).getLastLoginAt()).isEqualTo(600L);
+    }
+
+    @Test
+    void 반영하는_도중_들어온_더_최근_로그인은_지워지지_않고_다음_flush_에서_반영된다() {
+        // given
+        LoginActivityRecorder[] recorder = new LoginActivityRecorder[1];
+        FakeUserRepository slowUserRepository = new FakeUserRepository() {
+            @Override
+            public void updateLastLoginAt(Map<Long, Long> lastLoginAtByUserId) {
+                recorder[0].record(1L, 900L);
+                super.updateLastLoginAt(lastLoginAtByUserId);
+            }
+        };
+        slowUserRepository.save(fakeUserRepository.getById(1L));
+        recorder[0] = LoginActivityRecorder.builder()
+                .userRepository(slowUserRepository)
+                .build();
+        recorder[0].record(1L, 300L);
+
+        // when
+        recorder[0].flush();
+
+        // then
+        assertThat(slowUserRepository.getById(1L).getLastLoginAt()).isEqualTo(300L);
+        assertThat(recorder[0].pendingCount()).isEqualTo(1);
+        assertThat(recorder[0].merge(slowUserRepository.getById(1L)).getLastLoginAt()).isEqualTo(900L);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.demo.user.service;
+
+import com.example.demo.user.domain.User;
+import com.example.demo.user.domain.UserStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserCacheTest {
+
+    private final User user = User.builder()
+            .id(1L)
+            .email("kok202@naver.com")
+            .nickname("kok202")
+            .address("Seoul")
+            .certificationCode("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .status(UserStatus.ACTIVE)
+            .lastLoginAt(0L)
+            .build();
+
+    @Test
+    void 저장한_유저는_id_와_email_로_찾을_수_있다() {
+        // given
+        UserCache userCache = UserCache.builder()
+                .enabled(true)
+                .build();
+
+        // when
+        userCache.put(user);
+
+        // then
+        assertThat(userCache.getById(1L)).containsSame(user);
+        assertThat(userCache.getByEmail("kok202@naver.com")).containsSame(user);
+        assertThat(userCache.getByEmail("kok303@naver.com")).isEmpty();
+        assertThat(userCache.stats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void evict_하면_id_와_email_어느_쪽으로도_찾을_수_없다() {
+        // given
+        UserCache userCache = UserCache.builder()
+                .enabled(true)
+                .build();
+        userCache.put(user);
+
+        // when
+        userCache.evict(1L);
+
+        // then
+        assertThat(userCache.getById(1L)).isEmpty();
+        assertThat(userCache.getByEmail("kok202@naver.com")).isEmpty();
+    }
+
+    @Test
+    void evict_하면_email_보조_인덱스도_함께_지운다() {
+        // given
+        UserCache userCache = UserCache.builder()
+                .enabled(true)
+                .build();
+        userCache.put(user);
+
+        // when
+        userCache.evict(1L);
+        userCache.getByEmail("kok202@naver.com");
+
+        // then
+        // 보조 인덱스가 남아 있으면 usersById 까지 찾아가 miss 로 셉니다.
+        assertThat(userCache.stats().missCount()).isZero();
+    }
+
+    @Test
+    void 트랜잭션_안에서_올린_유저는_커밋된_뒤에야_캐시에_보인다() {
+        // given
+        UserCache userCache = UserCache.builder()
+                .enabled(true)
+                .build();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            userCache.put(user);
+            boolean visibleBeforeCommit = userCache.getById(1L).isPresent();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+
+            // then
+            assertThat(visibleBeforeCommit).isFalse();
+            assertThat(userCache.getById(1L)).containsSame(user);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_올리려던_유저는_캐시에_남지_않는다() {
+        // given
+        UserCache userCache = UserCache.builder()
+                .enabled(true)
+                .build();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userCache.put(user);
+
+            // when
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(userCache.getById(1L)).isEmpty();
+        assertThat(userCache.getByEmail("kok202@naver.com")).isEmpty();
+    }
+
+    @Test
+    void 만료_시간이_지나면_캐시에서_사라진다() {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        UserCache userCache = UserCache.builder()
+                .enabled(true)
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .ticker(nanos::get)
+                .build();
+        userCache.put(user);
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // then
+        assertThat(userCache.getById(1L)).isEmpty();
+        assertThat(userCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_오래된_항목이_밀려난다() {
+        // given
+        UserCache userCache = UserCache.builder()
+                .enabled(true)
+                .maximumSize(1)
+                .build();
+
+        // when
+        for (long id = 1; id <= 100; id++) {
+            userCache.put(User.builder()
+                    .id(id)
+                    .email(id + "@naver.com")
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+
+        // then
+        assertThat(userCache.stats().evictionCount()).isGreaterThan(0);
+    }
+
+    @Test
+    void 꺼져_있으면_아무것도_보관하지_않는다() {
+        // given
+        UserCache userCache = UserCache.builder()
+                .enabled(false)
+                .build();
+
+        // when
+        userCache.put(user);
+
+        // then
+        assertThat(userCache.getById(1L)).isEmpty();
+        assertThat(userCache.getByEmail("kok202@naver.com")).isEmpty();
+    }
+}
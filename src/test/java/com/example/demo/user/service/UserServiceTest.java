@@ -2,17 +2,23 @@ package com.example.demo.user.service;
 
 import com.example.demo.common.domain.exception.CertificationCodeNotMatchedException;
 import com.example.demo.common.domain.exception.ResourceNotFoundException;
-import com.example.demo.mock.FakeMailSender;
+import com.example.demo.mock.FakeCertificationMailRepository;
 import com.example.demo.mock.FakeUserRepository;
 import com.example.demo.mock.TestClockHolder;
 import com.example.demo.mock.TestUuidHolder;
+import com.example.demo.user.domain.CertificationMail;
+import com.example.demo.user.domain.CertificationMailStatus;
 import com.example.demo.user.domain.User;
 import com.example.demo.user.domain.UserCreate;
+import com.example.demo.user.domain.UserCreateResult;
 import com.example.demo.user.domain.UserStatus;
 import com.example.demo.user.domain.UserUpdate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -20,17 +26,25 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class UserServiceTest {
     private UserServiceImpl userServiceImpl;
+    private FakeCertificationMailRepository fakeCertificationMailRepository;
 
     @BeforeEach
     void init() {
-        FakeMailSender fakeMailSender = new FakeMailSender();
+        this.fakeCertificationMailRepository = new FakeCertificationMailRepository();
         FakeUserRepository fakeUserRepository = new FakeUserRepository();
 
         this.userServiceImpl = UserServiceImpl.builder()
                 .userRepository(fakeUserRepository)
-                .certificationService(new CertificationService(fakeMailSender))
+                .certificationMailRepository(fakeCertificationMailRepository)
+                .transactionOperations(TransactionOperations.withoutTransaction())
                 .clockHolder(new TestClockHolder(1678530673958L))
                 .uuidHolder(new TestUuidHolder("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa"))
+                .loginActivityRecorder(LoginActivityRecorder.builder()
+                        .userRepository(fakeUserRepository)
+                        .build())
+                .userCache(UserCache.builder()
+                        .enabled(true)
+                        .build())
                 .build();
 
         fakeUserRepository.save(User.builder()
@@ -65,6 +79,18 @@ public class UserServiceTest {
         assertThat(result.getNickname()).isEqualTo("kok202");
     }
 
+    @Test
+    void getByEmail_은_대소문자와_공백이_달라도_같은_유저를_찾아온다() {
+        // given
+        String email = " KOK202@naver.com";
+
+        // when
+        User result = userServiceImpl.getByEmail(email);
+
+        // then
+        assertThat(result.getId()).isEqualTo(1L);
+    }
+
     @Test
     void getByEmail_은_PENDING_상태인_유저를_찾아올_수_없다() {
         // given
@@ -117,6 +143,52 @@ public class UserServiceTest {
         assertThat(result.getCertificationCode()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
     }
 
+    @Test
+    void 유저를_생성하면_인증_메일이_바로_발송되지_않고_outbox_에_PENDING_으로_저장된다() {
+        // given
+        UserCreate userCreate = UserCreate.builder()
+                .email("kok404@naver.com")
+                .address("seoul2")
+                .nickname("nick")
+                .build();
+
+        // when
+        User result = userServiceImpl.create(userCreate);
+
+        // then
+        List<CertificationMail> certificationMails = fakeCertificationMailRepository.findAll();
+        assertThat(certificationMails).hasSize(1);
+        assertThat(certificationMails.get(0).getUserId()).isEqualTo(result.getId());
+        assertThat(certificationMails.get(0).getEmail()).isEqualTo("kok404@naver.com");
+        assertThat(certificationMails.get(0).getCertificationCode()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        assertThat(certificationMails.get(0).getStatus()).isEqualTo(CertificationMailStatus.PENDING);
+        assertThat(certificationMails.get(0).getNextAttemptAt()).isEqualTo(1678530673958L);
+    }
+
+    @Test
+    void userCreate_목록으로_여러_유저를_한번에_생성하고_항목별_결과를_받을_수_있다() {
+        // given
+        List<UserCreate> userCreates = List.of(
+                UserCreate.builder().email("kok404@naver.com").nickname("nick1").address("Seoul").build(),
+                UserCreate.builder().email("KOK404@naver.com").nickname("nick2").address("Seoul").build(),
+                UserCreate.builder().email("").nickname("nick3").address("Seoul").build(),
+                UserCreate.builder().email("kok405@naver.com").nickname("nick4").address("Seoul").build());
+
+        // when
+        List<UserCreateResult> results = userServiceImpl.createAll(userCreates);
+
+        // then
+        assertThat(results).hasSize(4);
+        assertThat(results).extracting(UserCreateResult::isCreated).containsExactly(true, false, false, true);
+        assertThat(results).extracting(UserCreateResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results.get(0).getUser().getId()).isNotNull();
+        assertThat(results.get(0).getUser().getStatus()).isEqualTo(UserStatus.PENDING);
+        assertThat(results.get(1).getFailureReason()).isNotBlank();
+        assertThat(fakeCertificationMailRepository.findAll())
+                .extracting(CertificationMail::getEmail)
+                .containsExactly("kok404@naver.com", "kok405@naver.com");
+    }
+
     @Test
     void updateDto_를_이용하여_유저를_수정할_수_있다() {
         // given
@@ -136,6 +208,21 @@ public class UserServiceTest {
         assertThat(user.getNickname()).isEqualTo("change");
     }
 
+    @Test
+    void 수정된_유저는_캐시에도_반영된다() {
+        // given
+        userServiceImpl.getById(1);
+
+        // when
+        userServiceImpl.update(1, UserUpdate.builder()
+                .address("change")
+                .nickname("change")
+                .build());
+
+        // then
+        assertThat(userServiceImpl.getByEmail("kok202@naver.com").getNickname()).isEqualTo("change");
+    }
+
     @Test
     void user를_로그인_시키면_마지막_로그인_시간이_변경된다() {
         // given
@@ -173,5 +260,28 @@ public class UserServiceTest {
         }).isInstanceOf(CertificationCodeNotMatchedException.class);
     }
 
+    @Test
+    void PENDING_상태의_사용자는_맞는_인증_코드로_한_번에_ACTIVE_가_된다() {
+        // given
+
+        // when
+        userServiceImpl.verifyEmail(2, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab");
+
+        // then
+        User user = userServiceImpl.getById(2);
+
+        assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
+    }
+
+    @Test
+    void 없는_사용자를_인증하면_ResourceNotFoundException_을_던진다() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> {
+            userServiceImpl.verifyEmail(123456789, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+        }).isInstanceOf(ResourceNotFoundException.class);
+    }
+
 
 }
@@ -1,2 +1,3 @@
+delete from `certification_mail_outbox` where 1;
 delete from `posts` where 1;
 delete from `users` where 1;
\ No newline at end of file
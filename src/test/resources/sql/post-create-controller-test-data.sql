@@ -2,3 +2,6 @@
 
 insert into `users` (`id`, `email`, `nickname`, `address`, `certification_code`, `status`, `last_login_at`)
 values (1, 'kok202@naver.com', 'kok202', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0);
+
+-- 고정 id 로 넣은 데이터와 겹치지 않도록 시퀀스를 뒤로 미룹니다.
+alter sequence `users_seq` restart with 1000;
@@ -4,4 +4,8 @@ values (1, 'kok202@naver.com', 'kok202', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaa
 insert into `users` (`id`, `email`, `nickname`, `address`, `certification_code`, `status`, `last_login_at`)
 values (2, 'kok303@naver.com', 'kok303', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab', 'PENDING', 0);
 insert into `posts` (`id`, `content`, `created_at`, `modified_at`, `user_id`)
-values (1, 'helloworld', 1678530673958, 0, 1);
\ No newline at end of file
+values (1, 'helloworld', 1678530673958, 0, 1);
+
+-- 고정 id 로 넣은 데이터와 겹치지 않도록 시퀀스를 뒤로 미룹니다.
+alter sequence `users_seq` restart with 1000;
+alter sequence `posts_seq` restart with 1000;